@@ -0,0 +1,130 @@
+package com.university.auctionsystem.bench;
+
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.model.Item;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+public final class BenchmarkDatabase {
+    public static final String DB_URL = "jdbc:h2:mem:auction_bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    public static final String DB_USER = "sa";
+    public static final String DB_PASSWORD = "";
+
+    public static final String URL_ARG = "-Dauction.db.url=" + DB_URL;
+    public static final String USER_ARG = "-Dauction.db.user=" + DB_USER;
+    public static final String PASSWORD_ARG = "-Dauction.db.password=" + DB_PASSWORD;
+    public static final String NO_SERVER_PREPARE_ARG = "-Dauction.db.serverPrepStmts=false";
+    public static final String HEAP_ARG = "-Xmx2g";
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private BenchmarkDatabase() {}
+
+    public static Connection open() throws SQLException {
+        return DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+    }
+
+    public static void createSchema(Connection conn) throws SQLException, IOException {
+        String script;
+        try (InputStream in = BenchmarkDatabase.class.getResourceAsStream("/bench-schema.sql")) {
+            if (in == null) {
+                throw new IOException("bench-schema.sql is missing from the classpath.");
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Statement stmt = conn.createStatement()) {
+            for (String ddl : script.split(";")) {
+                if (!ddl.isBlank()) {
+                    stmt.execute(ddl);
+                }
+            }
+        }
+    }
+
+    public static int insertUser(Connection conn, String username, String role) throws SQLException {
+        String sql = "INSERT INTO users (username, password_hash, email, role) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setString(1, username);
+            pstmt.setString(2, "not-a-real-hash");
+            pstmt.setString(3, username + "@bench.local");
+            pstmt.setString(4, role);
+            pstmt.executeUpdate();
+            return generatedKey(pstmt);
+        }
+    }
+
+    public static int insertAuction(Connection conn, int sellerId, String name, String status, BigDecimal startPrice) throws SQLException {
+        String sqlItem = "INSERT INTO items (seller_id, name, description, image_path, category, tags) VALUES (?, ?, ?, ?, ?, ?)";
+        String sqlAuction = "INSERT INTO auctions (item_id, start_time, end_time, start_price, reserve_price, current_highest_bid, status) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        int itemId;
+        try (PreparedStatement pstmt = conn.prepareStatement(sqlItem, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setInt(1, sellerId);
+            pstmt.setString(2, name);
+            pstmt.setString(3, "Benchmark item " + name + " with a description of typical length for a listing.");
+            pstmt.setString(4, "images/" + name + ".png");
+            pstmt.setString(5, "Electronics");
+            pstmt.setString(6, "bench,sample");
+            pstmt.executeUpdate();
+            itemId = generatedKey(pstmt);
+        }
+        long now = System.currentTimeMillis();
+        try (PreparedStatement pstmt = conn.prepareStatement(sqlAuction, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setInt(1, itemId);
+            pstmt.setTimestamp(2, new Timestamp(now - DAY_MILLIS));
+            pstmt.setTimestamp(3, new Timestamp(now + 30 * DAY_MILLIS));
+            pstmt.setBigDecimal(4, startPrice);
+            pstmt.setBigDecimal(5, BigDecimal.ZERO);
+            pstmt.setBigDecimal(6, startPrice);
+            pstmt.setString(7, status);
+            pstmt.executeUpdate();
+            return generatedKey(pstmt);
+        }
+    }
+
+    private static int generatedKey(PreparedStatement pstmt) throws SQLException {
+        try (ResultSet keys = pstmt.getGeneratedKeys()) {
+            if (!keys.next()) {
+                throw new SQLException("No generated key returned.");
+            }
+            return keys.getInt(1);
+        }
+    }
+
+    public static Auction sampleAuction(int auctionId) {
+        long now = System.currentTimeMillis();
+        Item item = new Item();
+        item.setItemId(auctionId);
+        item.setSellerId(1);
+        item.setName("Vintage camera #" + auctionId);
+        item.setDescription("A well kept rangefinder camera with original leather case and strap.");
+        item.setImagePath("images/camera-" + auctionId + ".png");
+        item.setCategory("Electronics");
+        item.setTags("camera,vintage,film");
+        item.setCreatedAt(new Timestamp(now - 2 * DAY_MILLIS));
+
+        Auction auction = new Auction();
+        auction.setAuctionId(auctionId);
+        auction.setItemId(auctionId);
+        auction.setItem(item);
+        auction.setStartTime(new Timestamp(now - DAY_MILLIS));
+        auction.setEndTime(new Timestamp(now + DAY_MILLIS));
+        auction.setStartPrice(new BigDecimal("25.00"));
+        auction.setReservePrice(new BigDecimal("100.00"));
+        auction.setCurrentHighestBid(new BigDecimal("142.50"));
+        auction.setWinningBidderId(7);
+        auction.setStatus(Auction.AuctionStatus.ACTIVE);
+        auction.setPaymentStatus(Auction.PaymentStatus.PENDING);
+        auction.setCreatedAt(new Timestamp(now - 2 * DAY_MILLIS));
+        return auction;
+    }
+}
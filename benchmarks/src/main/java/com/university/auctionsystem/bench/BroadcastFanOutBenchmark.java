@@ -0,0 +1,108 @@
+package com.university.auctionsystem.bench;
+
+import com.university.auctionsystem.server.ClientHandler;
+import com.university.auctionsystem.server.SessionRegistry;
+import com.university.auctionsystem.server.metrics.ServerMetrics;
+import com.university.auctionsystem.server.transport.ClientChannel;
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.protocol.BinaryCodec;
+import com.university.auctionsystem.shared.protocol.MessageCodec;
+import com.university.auctionsystem.shared.protocol.Response;
+import com.university.auctionsystem.shared.protocol.SerializationCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadcastFanOutBenchmark {
+    @Param({"10", "100", "1000"})
+    public int subscribers;
+
+    @Param({"none", "serialization", "binary"})
+    public String codecName;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final List<ClientHandler> handlers = new ArrayList<>();
+    private Auction auction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MessageCodec codec = switch (codecName) {
+            case "binary" -> new BinaryCodec();
+            case "serialization" -> new SerializationCodec();
+            default -> null;
+        };
+        SessionRegistry sessions = new SessionRegistry();
+        for (int i = 0; i < subscribers; i++) {
+            ClientChannel channel = new CountingChannel("bench-" + i, codec, delivered);
+            handlers.add(new ClientHandler(channel, null, null, null, null, null, sessions, new ServerMetrics()));
+        }
+        auction = BenchmarkDatabase.sampleAuction(42);
+    }
+
+    @Benchmark
+    public long fanOut() {
+        long target = delivered.get() + subscribers;
+        for (ClientHandler handler : handlers) {
+            handler.sendAuctionUpdate(auction);
+        }
+        while (delivered.get() < target) {
+            Thread.yield();
+        }
+        return target;
+    }
+
+    private static class CountingChannel implements ClientChannel {
+        private final String name;
+        private final MessageCodec codec;
+        private final AtomicLong delivered;
+
+        private CountingChannel(String name, MessageCodec codec, AtomicLong delivered) {
+            this.name = name;
+            this.codec = codec;
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void send(Response response) throws IOException {
+            if (codec != null) {
+                codec.encode(response);
+            }
+            delivered.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public String getRemoteAddress() {
+            return name;
+        }
+    }
+}
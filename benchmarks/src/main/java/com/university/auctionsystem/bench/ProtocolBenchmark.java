@@ -0,0 +1,83 @@
+package com.university.auctionsystem.bench;
+
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.model.Bid;
+import com.university.auctionsystem.shared.protocol.BinaryCodec;
+import com.university.auctionsystem.shared.protocol.MessageCodec;
+import com.university.auctionsystem.shared.protocol.Request;
+import com.university.auctionsystem.shared.protocol.RequestType;
+import com.university.auctionsystem.shared.protocol.Response;
+import com.university.auctionsystem.shared.protocol.SerializationCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolBenchmark {
+    @Param({"serialization", "binary"})
+    public String codecName;
+
+    @Param({"placeBidRequest", "auctionUpdate", "activeAuctions100"})
+    public String message;
+
+    private MessageCodec codec;
+    private Object payload;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        codec = "binary".equals(codecName) ? new BinaryCodec() : new SerializationCodec();
+        switch (message) {
+            case "placeBidRequest":
+                payload = new Request(RequestType.PLACE_BID, new Bid(42, 7, new BigDecimal("150.00")));
+                break;
+            case "auctionUpdate":
+                payload = new Response(true, "Auction Updated", BenchmarkDatabase.sampleAuction(42), RequestType.AUCTION_UPDATE);
+                break;
+            case "activeAuctions100":
+                List<Auction> auctions = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    auctions.add(BenchmarkDatabase.sampleAuction(i));
+                }
+                payload = new Response(true, "Fetched active auctions.", auctions, RequestType.GET_ACTIVE_AUCTIONS, "c-1");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown message: " + message);
+        }
+        encoded = codec.encode(payload);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return codec.encode(payload);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    public Object roundTrip() throws Exception {
+        return codec.decode(codec.encode(payload));
+    }
+}
@@ -0,0 +1,87 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.bench.BenchmarkDatabase;
+import com.university.auctionsystem.server.DatabaseManager;
+import com.university.auctionsystem.server.SessionRegistry;
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.model.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {BenchmarkDatabase.URL_ARG, BenchmarkDatabase.USER_ARG, BenchmarkDatabase.PASSWORD_ARG,
+        BenchmarkDatabase.NO_SERVER_PREPARE_ARG, BenchmarkDatabase.HEAP_ARG})
+public class BidPathBenchmark {
+    private Connection keepAlive;
+    private DatabaseManager dbManager;
+    private AuctionService auctionService;
+    private int auctionId;
+    private int[] bidderIds;
+    private final AtomicLong nextAmountCents = new AtomicLong(100);
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        keepAlive = BenchmarkDatabase.open();
+        BenchmarkDatabase.createSchema(keepAlive);
+        int sellerId = BenchmarkDatabase.insertUser(keepAlive, "seller", "SELLER");
+        bidderIds = new int[]{
+                BenchmarkDatabase.insertUser(keepAlive, "bidder1", "BUYER"),
+                BenchmarkDatabase.insertUser(keepAlive, "bidder2", "BUYER")
+        };
+        auctionId = BenchmarkDatabase.insertAuction(keepAlive, sellerId, "bid-path", "ACTIVE", BigDecimal.ONE);
+
+        System.setProperty("auction.journal.dir", Files.createTempDirectory("bid-journal").toString());
+        dbManager = new DatabaseManager();
+        auctionService = new AuctionService(dbManager, new ItemService(dbManager), new UserService(dbManager), new SessionRegistry());
+    }
+
+    @TearDown(Level.Iteration)
+    public void drainWrites() {
+        auctionService.awaitBidPersisted(auctionId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        auctionService.shutdownScheduler();
+        auctionService.flushPendingBids();
+        dbManager.closeConnection();
+        keepAlive.close();
+    }
+
+    private Bid nextBid() {
+        long cents = nextAmountCents.incrementAndGet();
+        return new Bid(auctionId, bidderIds[(int) (cents & 1)], BigDecimal.valueOf(cents, 2));
+    }
+
+    @Benchmark
+    public Auction placeBid() {
+        return auctionService.placeBid(nextBid());
+    }
+
+    @Benchmark
+    public Auction placeBidDurable() {
+        Auction placed = auctionService.placeBid(nextBid());
+        auctionService.awaitBidPersisted(auctionId);
+        return placed;
+    }
+}
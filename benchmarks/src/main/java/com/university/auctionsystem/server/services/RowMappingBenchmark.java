@@ -0,0 +1,78 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.bench.BenchmarkDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkDatabase.HEAP_ARG)
+public class RowMappingBenchmark {
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private Connection conn;
+    private PreparedStatement listing;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        conn = BenchmarkDatabase.open();
+        BenchmarkDatabase.createSchema(conn);
+        int sellerId = BenchmarkDatabase.insertUser(conn, "seller", "SELLER");
+        conn.setAutoCommit(false);
+        for (int i = 0; i < rows; i++) {
+            BenchmarkDatabase.insertAuction(conn, sellerId, "item-" + i, i % 4 == 0 ? "ENDED" : "ACTIVE", new BigDecimal("10.00"));
+        }
+        conn.commit();
+        conn.setAutoCommit(true);
+        listing = conn.prepareStatement("SELECT " + AuctionRowMapper.AUCTION_WITH_ITEM.columns() + " " +
+                "FROM auctions a JOIN items i ON a.item_id = i.item_id ORDER BY a.created_at DESC");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        listing.close();
+        conn.close();
+    }
+
+    @Benchmark
+    public int scanOnly() throws Exception {
+        int count = 0;
+        try (ResultSet rs = listing.executeQuery()) {
+            while (rs.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public void mapAuctionsWithItem(Blackhole blackhole) throws Exception {
+        try (ResultSet rs = listing.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(AuctionRowMapper.AUCTION_WITH_ITEM.map(rs));
+            }
+        }
+    }
+}
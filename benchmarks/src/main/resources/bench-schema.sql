@@ -0,0 +1,60 @@
+CREATE TABLE users (
+  user_id int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  username varchar(50) NOT NULL UNIQUE,
+  password_hash varchar(255) NOT NULL,
+  email varchar(100) NOT NULL,
+  role enum('BUYER','SELLER','ADMIN') NOT NULL,
+  created_at timestamp NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE items (
+  item_id int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  seller_id int NOT NULL,
+  name varchar(100) NOT NULL,
+  description text,
+  image_path varchar(255) DEFAULT NULL,
+  category varchar(50) DEFAULT NULL,
+  tags varchar(255) DEFAULT NULL,
+  created_at timestamp NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE auctions (
+  auction_id int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  item_id int NOT NULL UNIQUE,
+  start_time timestamp NOT NULL,
+  end_time timestamp NOT NULL,
+  start_price decimal(10,2) NOT NULL,
+  reserve_price decimal(10,2) DEFAULT NULL,
+  current_highest_bid decimal(10,2) DEFAULT '0.00',
+  winning_bidder_id int DEFAULT NULL,
+  status enum('UPCOMING','ACTIVE','ENDED','CANCELLED') DEFAULT 'UPCOMING',
+  payment_status enum('PENDING','PAID','FAILED','REFUNDED') DEFAULT 'PENDING',
+  created_at timestamp NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE bids (
+  bid_id int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  auction_id int NOT NULL,
+  bidder_id int NOT NULL,
+  bid_amount decimal(10,2) NOT NULL,
+  bid_time timestamp NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX bids_auction_id ON bids (auction_id);
+
+CREATE TABLE proxy_ceilings (
+  auction_id int NOT NULL PRIMARY KEY,
+  bidder_id int NOT NULL,
+  max_amount decimal(10,2) NOT NULL,
+  updated_at timestamp NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE messages (
+  message_id int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  auction_id int NOT NULL,
+  sender_id int NOT NULL,
+  receiver_id int NOT NULL,
+  message_text text NOT NULL,
+  timestamp timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  is_read tinyint DEFAULT 0
+);
@@ -150,6 +150,25 @@ INSERT INTO `messages` VALUES (4,10,5,2,'condition?','2025-06-25 23:48:58',1),(5
 /*!40000 ALTER TABLE `messages` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `proxy_ceilings`
+--
+
+DROP TABLE IF EXISTS `proxy_ceilings`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `proxy_ceilings` (
+  `auction_id` int NOT NULL,
+  `bidder_id` int NOT NULL,
+  `max_amount` decimal(10,2) NOT NULL,
+  `updated_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`auction_id`),
+  KEY `bidder_id` (`bidder_id`),
+  CONSTRAINT `proxy_ceilings_ibfk_1` FOREIGN KEY (`auction_id`) REFERENCES `auctions` (`auction_id`),
+  CONSTRAINT `proxy_ceilings_ibfk_2` FOREIGN KEY (`bidder_id`) REFERENCES `users` (`user_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
 --
 -- Table structure for table `users`
 --
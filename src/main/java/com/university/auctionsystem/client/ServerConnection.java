@@ -0,0 +1,236 @@
+package com.university.auctionsystem.client;
+
+import com.university.auctionsystem.shared.protocol.CodecNegotiation;
+import com.university.auctionsystem.shared.protocol.Frames;
+import com.university.auctionsystem.shared.protocol.MessageCodec;
+import com.university.auctionsystem.shared.protocol.Request;
+import com.university.auctionsystem.shared.protocol.RequestType;
+import com.university.auctionsystem.shared.protocol.Response;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public class ServerConnection {
+    private final String host;
+    private final int port;
+    private final boolean framed;
+    private final boolean binaryProtocol;
+    private volatile boolean verbose = true;
+
+    private Socket socket;
+    private ObjectOutputStream out;
+    private ObjectInputStream in;
+    private DataOutputStream framedOut;
+    private DataInputStream framedIn;
+    private volatile MessageCodec codec = CodecNegotiation.fallbackCodec();
+    private volatile boolean connected = false;
+    private Thread listenerThread;
+
+    private volatile Consumer<Response> pushHandler = response -> {};
+    private final Map<String, CompletableFuture<Response>> pendingRequests = new ConcurrentHashMap<>();
+
+    public ServerConnection(String host, int port, boolean framed, boolean binaryProtocol) {
+        this.host = host;
+        this.port = port;
+        this.framed = framed;
+        this.binaryProtocol = binaryProtocol;
+    }
+
+    public void setPushHandler(Consumer<Response> pushHandler) {
+        this.pushHandler = pushHandler;
+    }
+
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    public synchronized boolean connect() {
+        if (connected) return true;
+        try {
+            socket = new Socket(host, port);
+            if (framed) {
+                socket.setTcpNoDelay(true);
+                framedOut = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                framedIn = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                negotiateCodec();
+            } else {
+                out = new ObjectOutputStream(socket.getOutputStream());
+                out.flush();
+                in = new ObjectInputStream(socket.getInputStream());
+            }
+            connected = true;
+            startServerListener();
+            if (verbose) System.out.println("Connected to server.");
+            return true;
+        } catch (IOException e) {
+            System.err.println("Connection failed: " + e.getMessage());
+            if (verbose) e.printStackTrace();
+            closeSocket();
+            connected = false;
+            return false;
+        }
+    }
+
+    private void startServerListener() {
+        Socket listenedSocket = socket;
+        ObjectInputStream objectIn = in;
+        DataInputStream frameIn = framedIn;
+        listenerThread = Thread.ofVirtual().name("server-listener-" + socket.getLocalPort()).unstarted(() -> {
+            try {
+                while (connected && socket == listenedSocket && !listenedSocket.isClosed()) {
+                    Object receivedObject = framed ? codec.decode(Frames.readFrame(frameIn)) : objectIn.readObject();
+                    if (receivedObject instanceof Response) {
+                        Response response = (Response) receivedObject;
+                        String correlationId = response.getCorrelationId();
+
+                        CompletableFuture<Response> future = correlationId != null ? pendingRequests.remove(correlationId) : null;
+                        if (future != null) {
+                            future.complete(response);
+                        } else {
+                            pushHandler.accept(response);
+                        }
+                    } else {
+                        System.err.println("Listener received unknown object type: " + receivedObject.getClass().getName());
+                    }
+                }
+            } catch (SocketException | EOFException e) {
+                if (verbose) System.out.println("Socket closed or EOF, listener stopping: " + e.getMessage());
+                connectionLost(listenedSocket, new IOException("Connection to server lost: " + e.getMessage(), e));
+            }
+            catch (IOException | ClassNotFoundException e) {
+                if (connected && socket == listenedSocket) {
+                    System.err.println("Error in server listener: " + e.getMessage());
+                    if (verbose) e.printStackTrace();
+                }
+                connectionLost(listenedSocket, e);
+            } finally {
+                if (verbose) System.out.println("Server listener thread finished.");
+            }
+        });
+        listenerThread.start();
+    }
+
+    private void negotiateCodec() throws IOException {
+        byte[] hello = binaryProtocol
+                ? CodecNegotiation.hello(CodecNegotiation.BINARY, CodecNegotiation.SERIALIZATION)
+                : CodecNegotiation.hello(CodecNegotiation.SERIALIZATION);
+        Frames.writeFrame(framedOut, hello);
+        byte codecId = CodecNegotiation.acceptedCodec(Frames.readFrame(framedIn));
+        codec = CodecNegotiation.codecFor(codecId);
+        if (verbose) System.out.println("Negotiated " + (codecId == CodecNegotiation.BINARY ? "binary" : "serialization") + " wire protocol.");
+    }
+
+    private synchronized void connectionLost(Socket lostSocket, Exception cause) {
+        if (connected && socket == lostSocket) {
+            cleanupPendingRequests(cause);
+            disconnect();
+        }
+    }
+
+    private synchronized void writeMessage(Object message) throws IOException {
+        if (framed) {
+            Frames.writeFrame(framedOut, codec.encode(message));
+        } else {
+            out.writeObject(message);
+            out.flush();
+        }
+    }
+
+    private void cleanupPendingRequests(Exception e) {
+        for (Map.Entry<String, CompletableFuture<Response>> entry : new ConcurrentHashMap<>(pendingRequests).entrySet()) {
+            entry.getValue().completeExceptionally(e);
+            pendingRequests.remove(entry.getKey());
+        }
+    }
+
+    public CompletableFuture<Response> sendRequestAsync(Request request) {
+        if (!connected) {
+            if (!connect()) {
+                return CompletableFuture.failedFuture(new IOException("Failed to connect to server."));
+            }
+        }
+        if (out == null && framedOut == null) {
+            return CompletableFuture.failedFuture(new IOException("Output stream not initialized. Cannot send request."));
+        }
+
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        String correlationId = UUID.randomUUID().toString();
+        request.setCorrelationId(correlationId);
+        pendingRequests.put(correlationId, future);
+
+        if (verbose) System.out.println("Client sending request: " + request.getType() + " (CorrID: " + correlationId + ")");
+        try {
+            writeMessage(request);
+        } catch (IOException e) {
+            System.err.println("Error sending request " + request.getType() + ": " + e.getMessage());
+            if (verbose) e.printStackTrace();
+            pendingRequests.remove(correlationId);
+            future.completeExceptionally(e);
+            disconnect();
+        }
+        return future;
+    }
+
+    public synchronized void disconnect() {
+        if (connected) {
+            if (verbose) System.out.println("Disconnecting from server...");
+            connected = false;
+            if (listenerThread != null && listenerThread.isAlive() && listenerThread != Thread.currentThread()) {
+                listenerThread.interrupt();
+            }
+            if (out != null || framedOut != null) {
+                try {
+                    Request disconnectRequest = new Request(RequestType.DISCONNECT, null);
+                    disconnectRequest.setCorrelationId(UUID.randomUUID().toString());
+                    writeMessage(disconnectRequest);
+                    if (verbose) System.out.println("Sent DISCONNECT request.");
+                } catch (IOException e) {
+                    if (verbose) System.err.println("Error sending disconnect message (socket might already be closed): " + e.getMessage());
+                }
+            }
+            closeSocket();
+            cleanupPendingRequests(new IOException("Client disconnected."));
+            if (verbose) System.out.println("Disconnected.");
+        }
+    }
+
+    private void closeSocket() {
+        try {
+            if (in != null) in.close();
+        } catch (IOException e) {
+            if (verbose) System.err.println("Error closing input stream: " + e.getMessage());
+        }
+        try {
+            if (out != null) out.close();
+        } catch (IOException e) {
+            if (verbose) System.err.println("Error closing output stream: " + e.getMessage());
+        }
+        try {
+            if (socket != null) socket.close();
+        } catch (IOException e) {
+            if (verbose) System.err.println("Error closing socket: " + e.getMessage());
+        }
+        socket = null;
+        in = null;
+        out = null;
+        framedIn = null;
+        framedOut = null;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+}
@@ -39,6 +39,7 @@ public class AuctionViewController {
     @FXML private Label detailTimeRemaining;
     @FXML private TextField bidAmountField;
     @FXML private Button placeBidButton;
+    @FXML private CheckBox proxyBidCheckBox;
     @FXML private Button contactSellerButton;
     @FXML private Label bidStatusLabel;
     @FXML private ListView<String> bidHistoryListView;
@@ -249,6 +250,7 @@ public class AuctionViewController {
 
         bidAmountField.setDisable(!canBid);
         if (placeBidButton != null) placeBidButton.setDisable(!canBid);
+        if (proxyBidCheckBox != null) proxyBidCheckBox.setDisable(!canBid);
 
         if (contactSellerButton != null) {
             boolean canContact = ClientApp.getInstance().getCurrentUser() != null &&
@@ -358,15 +360,16 @@ public class AuctionViewController {
 
 
             Bid bid = new Bid(selectedAuction.getAuctionId(), currentUser.getUserId(), bidAmount);
-            Request request = new Request(RequestType.PLACE_BID, bid);
+            boolean automatic = proxyBidCheckBox != null && proxyBidCheckBox.isSelected();
+            Request request = new Request(automatic ? RequestType.PLACE_PROXY_BID : RequestType.PLACE_BID, bid);
 
-            bidStatusLabel.setText("Placing bid...");
-            System.out.println("Sending PLACE_BID request to server...");
+            bidStatusLabel.setText(automatic ? "Setting automatic bid..." : "Placing bid...");
+            System.out.println("Sending " + request.getType() + " request to server...");
 
             networkHandler.sendRequestAsync(request).thenAccept(response -> {
                 Platform.runLater(() -> {
                     if (response != null && response.isSuccess()) {
-                        bidStatusLabel.setText("Bid placed successfully! Awaiting confirmation...");
+                        bidStatusLabel.setText(automatic ? response.getMessage() : "Bid placed successfully! Awaiting confirmation...");
                         bidAmountField.clear();
                     } else {
                         bidStatusLabel.setText("Bid failed: " + (response != null ? response.getMessage() : "No response"));
@@ -0,0 +1,42 @@
+package com.university.auctionsystem.loadtest;
+
+import com.university.auctionsystem.shared.model.Auction;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+class AuctionCatalog {
+    private volatile List<Auction> active = List.of();
+
+    void update(List<Auction> auctions) {
+        List<Auction> open = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (Auction auction : auctions) {
+            if (auction.getEndTime() == null || auction.getEndTime().getTime() > now) {
+                open.add(auction);
+            }
+        }
+        open.sort(Comparator.comparing(auction -> auction.getEndTime() != null ? auction.getEndTime().getTime() : Long.MAX_VALUE));
+        active = List.copyOf(open);
+    }
+
+    boolean isEmpty() {
+        return active.isEmpty();
+    }
+
+    int size() {
+        return active.size();
+    }
+
+    Auction random(Random random) {
+        List<Auction> snapshot = active;
+        return snapshot.isEmpty() ? null : snapshot.get(random.nextInt(snapshot.size()));
+    }
+
+    List<Auction> endingSoonest(int count) {
+        List<Auction> snapshot = active;
+        return snapshot.subList(0, Math.min(count, snapshot.size()));
+    }
+}
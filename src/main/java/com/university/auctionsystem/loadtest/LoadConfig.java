@@ -0,0 +1,27 @@
+package com.university.auctionsystem.loadtest;
+
+class LoadConfig {
+    final String host = System.getProperty("load.host", "localhost");
+    final int port = Integer.getInteger("load.port", 12345);
+    final boolean framed = "nio".equalsIgnoreCase(System.getProperty("auction.transport", "socket"));
+    final boolean binaryProtocol = Boolean.parseBoolean(System.getProperty("auction.protocol.binary", "true"));
+    final LoadScenario scenario = LoadScenario.valueOf(System.getProperty("load.scenario", "MIXED").toUpperCase());
+    final int clients = Integer.getInteger("load.clients", 100);
+    final long durationMillis = Long.getLong("load.durationSeconds", 60) * 1000;
+    final long rampUpMillis = Long.getLong("load.rampUpSeconds", 10) * 1000;
+    final long thinkTimeMillis = Long.getLong("load.thinkTimeMs", 500);
+    final long requestTimeoutMillis = Long.getLong("load.requestTimeoutMs", 10_000);
+    final long reportIntervalMillis = Long.getLong("load.reportIntervalSeconds", 10) * 1000;
+    final String userPrefix = System.getProperty("load.userPrefix", "loaduser");
+    final String password = System.getProperty("load.password", "loadtest");
+    final int hotAuctions = Integer.getInteger("load.hotAuctions", 3);
+    final int subscriptionsPerClient = Integer.getInteger("load.subscriptions", 5);
+    final long snipeWindowMillis = Long.getLong("load.snipeWindowMs", 5_000);
+
+    @Override
+    public String toString() {
+        return "scenario=" + scenario + " clients=" + clients + " duration=" + durationMillis / 1000 + "s rampUp=" + rampUpMillis / 1000 +
+                "s thinkTime=" + thinkTimeMillis + "ms transport=" + (framed ? "nio" + (binaryProtocol ? "/binary" : "/serialization") : "socket") +
+                " target=" + host + ":" + port;
+    }
+}
@@ -0,0 +1,103 @@
+package com.university.auctionsystem.loadtest;
+
+import com.university.auctionsystem.client.ServerConnection;
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.protocol.Request;
+import com.university.auctionsystem.shared.protocol.RequestType;
+import com.university.auctionsystem.shared.protocol.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class LoadGenerator {
+    private static final long CATALOG_REFRESH_MILLIS = 30_000;
+
+    private final LoadConfig config = new LoadConfig();
+    private final LoadStats stats = new LoadStats();
+    private final AuctionCatalog catalog = new AuctionCatalog();
+    private final ServerConnection coordinator;
+
+    public LoadGenerator() {
+        coordinator = new ServerConnection(config.host, config.port, config.framed, config.binaryProtocol);
+        coordinator.setVerbose(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void refreshCatalog() {
+        try {
+            Response response = coordinator.sendRequestAsync(new Request(RequestType.GET_ACTIVE_AUCTIONS, null))
+                    .get(config.requestTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (response != null && response.isSuccess() && response.getData() instanceof List<?>) {
+                catalog.update((List<Auction>) response.getData());
+            }
+        } catch (Exception e) {
+            System.err.println("LoadGenerator: Could not refresh the active auction list: " + e.getMessage());
+        }
+    }
+
+    public void run() throws InterruptedException {
+        System.out.println("LoadGenerator: " + config);
+        if (!coordinator.connect()) {
+            System.err.println("LoadGenerator: Server is not reachable at " + config.host + ":" + config.port + ".");
+            return;
+        }
+        refreshCatalog();
+        System.out.println("LoadGenerator: " + catalog.size() + " active auctions available.");
+        if (catalog.isEmpty()) {
+            System.out.println("LoadGenerator: No active auctions, browse, bid and messaging clients will mostly idle.");
+        }
+
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(config.rampUpMillis + config.durationMillis);
+        Thread reporter = Thread.ofPlatform().daemon().name("load-reporter").start(() -> report(startNanos, deadlineNanos));
+
+        List<Thread> clients = new ArrayList<>(config.clients);
+        long startSpacingNanos = config.clients > 0 ? TimeUnit.MILLISECONDS.toNanos(config.rampUpMillis) / config.clients : 0;
+        for (int i = 0; i < config.clients && System.nanoTime() < deadlineNanos; i++) {
+            clients.add(Thread.ofVirtual().name("load-client-" + i).start(new SimulatedClient(i, config, stats, catalog, deadlineNanos)));
+            if (startSpacingNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(startSpacingNanos);
+            }
+        }
+        for (Thread client : clients) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()) + config.requestTimeoutMillis;
+            client.join(Math.max(1, remainingMillis));
+        }
+        reporter.interrupt();
+        coordinator.disconnect();
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.println();
+        System.out.println(String.format("LoadGenerator: Finished %d clients in %.1fs.", clients.size(), elapsedSeconds));
+        stats.printReport(System.out, elapsedSeconds);
+    }
+
+    private void report(long startNanos, long deadlineNanos) {
+        long lastTotal = 0;
+        long lastReportNanos = startNanos;
+        long lastRefreshNanos = startNanos;
+        while (System.nanoTime() < deadlineNanos) {
+            try {
+                Thread.sleep(config.reportIntervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long now = System.nanoTime();
+            long total = stats.getTotalRequests();
+            System.out.println(String.format("LoadGenerator: t=%.0fs requests=%d (%.1f req/s)",
+                    (now - startNanos) / 1e9, total, (total - lastTotal) / ((now - lastReportNanos) / 1e9)));
+            lastTotal = total;
+            lastReportNanos = now;
+            if (now - lastRefreshNanos >= TimeUnit.MILLISECONDS.toNanos(CATALOG_REFRESH_MILLIS)) {
+                refreshCatalog();
+                lastRefreshNanos = now;
+            }
+            stats.pruneBidTracking();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        new LoadGenerator().run();
+    }
+}
@@ -0,0 +1,21 @@
+package com.university.auctionsystem.loadtest;
+
+enum LoadScenario {
+    LOGIN_STORM,
+    BROWSE,
+    SUBSCRIBE,
+    BID_WAR,
+    MESSAGING,
+    MIXED;
+
+    LoadScenario forClient(int clientIndex) {
+        if (this != MIXED) {
+            return this;
+        }
+        int slot = clientIndex % 10;
+        if (slot < 4) return BROWSE;
+        if (slot < 7) return BID_WAR;
+        if (slot < 9) return SUBSCRIBE;
+        return MESSAGING;
+    }
+}
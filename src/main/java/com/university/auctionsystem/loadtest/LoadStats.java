@@ -0,0 +1,112 @@
+package com.university.auctionsystem.loadtest;
+
+import com.university.auctionsystem.shared.metrics.LatencyHistogram;
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.protocol.RequestType;
+import com.university.auctionsystem.shared.protocol.Response;
+
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class LoadStats {
+    private static final long BID_TRACKING_MILLIS = 60_000;
+
+    private final Map<RequestType, LatencyHistogram> latencyByType = new ConcurrentHashMap<>();
+    private final Map<RequestType, LongAdder> rejectedByType = new ConcurrentHashMap<>();
+    private final Map<RequestType, LongAdder> errorsByType = new ConcurrentHashMap<>();
+    private final Map<RequestType, LongAdder> pushesByType = new ConcurrentHashMap<>();
+    private final LatencyHistogram pushLag = new LatencyHistogram();
+    private final Map<String, Long> bidSentNanos = new ConcurrentHashMap<>();
+    private final LongAdder connectFailures = new LongAdder();
+
+    void recordResponse(RequestType type, long elapsedNanos, Response response) {
+        latencyByType.computeIfAbsent(type, t -> new LatencyHistogram()).record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        if (response == null || !response.isSuccess()) {
+            rejectedByType.computeIfAbsent(type, t -> new LongAdder()).increment();
+        }
+    }
+
+    void recordError(RequestType type) {
+        errorsByType.computeIfAbsent(type, t -> new LongAdder()).increment();
+    }
+
+    void recordConnectFailure() {
+        connectFailures.increment();
+    }
+
+    void bidSent(int auctionId, BigDecimal amount, long sentNanos) {
+        bidSentNanos.put(bidKey(auctionId, amount), sentNanos);
+    }
+
+    void recordPush(Response push) {
+        RequestType type = push.getOriginalRequestType();
+        if (type == null) {
+            return;
+        }
+        pushesByType.computeIfAbsent(type, t -> new LongAdder()).increment();
+        if (type == RequestType.AUCTION_UPDATE && push.getData() instanceof Auction auction && auction.getCurrentHighestBid() != null) {
+            Long sent = bidSentNanos.get(bidKey(auction.getAuctionId(), auction.getCurrentHighestBid()));
+            if (sent != null) {
+                pushLag.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent));
+            }
+        }
+    }
+
+    void pruneBidTracking() {
+        long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(BID_TRACKING_MILLIS);
+        bidSentNanos.values().removeIf(sent -> sent < cutoff);
+    }
+
+    long getTotalRequests() {
+        long total = 0;
+        for (LatencyHistogram histogram : latencyByType.values()) {
+            total += histogram.getCount();
+        }
+        return total;
+    }
+
+    void printReport(PrintStream out, double elapsedSeconds) {
+        out.println(String.format("%-26s %9s %9s %8s %8s %9s %9s %9s %9s %9s",
+                "request", "count", "req/s", "rejected", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Map.Entry<RequestType, LatencyHistogram> entry : new TreeMap<>(latencyByType).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            out.println(String.format("%-26s %9d %9.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f",
+                    entry.getKey(), histogram.getCount(), histogram.getCount() / elapsedSeconds,
+                    countOf(rejectedByType, entry.getKey()), countOf(errorsByType, entry.getKey()),
+                    millis(histogram.getPercentile(50)), millis(histogram.getPercentile(90)),
+                    millis(histogram.getPercentile(99)), millis(histogram.getPercentile(99.9)), millis(histogram.getMax())));
+        }
+        for (Map.Entry<RequestType, LongAdder> entry : new TreeMap<>(errorsByType).entrySet()) {
+            if (!latencyByType.containsKey(entry.getKey())) {
+                out.println(String.format("%-26s %9d %9s %8s %8d", entry.getKey(), 0, "-", "-", entry.getValue().sum()));
+            }
+        }
+        StringBuilder pushes = new StringBuilder();
+        for (Map.Entry<RequestType, LongAdder> entry : new TreeMap<>(pushesByType).entrySet()) {
+            pushes.append(' ').append(entry.getKey()).append('=').append(entry.getValue().sum());
+        }
+        out.println("pushes:" + (pushes.length() == 0 ? " none" : pushes));
+        out.println(String.format("push lag (bid sent -> update received): samples=%d p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                pushLag.getCount(), millis(pushLag.getPercentile(50)), millis(pushLag.getPercentile(90)),
+                millis(pushLag.getPercentile(99)), millis(pushLag.getPercentile(99.9)), millis(pushLag.getMax())));
+        out.println("connect failures: " + connectFailures.sum());
+    }
+
+    private static long countOf(Map<RequestType, LongAdder> counters, RequestType type) {
+        LongAdder counter = counters.get(type);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String bidKey(int auctionId, BigDecimal amount) {
+        return auctionId + ":" + amount.stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,229 @@
+package com.university.auctionsystem.loadtest;
+
+import com.university.auctionsystem.client.ServerConnection;
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.model.Bid;
+import com.university.auctionsystem.shared.model.Message;
+import com.university.auctionsystem.shared.model.Page;
+import com.university.auctionsystem.shared.model.PageRequest;
+import com.university.auctionsystem.shared.model.Role;
+import com.university.auctionsystem.shared.model.SearchQuery;
+import com.university.auctionsystem.shared.model.User;
+import com.university.auctionsystem.shared.protocol.Request;
+import com.university.auctionsystem.shared.protocol.RequestType;
+import com.university.auctionsystem.shared.protocol.Response;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class SimulatedClient implements Runnable {
+    private static final BigDecimal MIN_INCREMENT = new BigDecimal("1.00");
+
+    private final int index;
+    private final LoadConfig config;
+    private final LoadStats stats;
+    private final AuctionCatalog catalog;
+    private final long deadlineNanos;
+    private final Random random;
+    private final ServerConnection connection;
+    private final Map<Integer, Auction> watched = new ConcurrentHashMap<>();
+
+    SimulatedClient(int index, LoadConfig config, LoadStats stats, AuctionCatalog catalog, long deadlineNanos) {
+        this.index = index;
+        this.config = config;
+        this.stats = stats;
+        this.catalog = catalog;
+        this.deadlineNanos = deadlineNanos;
+        this.random = new Random(index);
+        this.connection = new ServerConnection(config.host, config.port, config.framed, config.binaryProtocol);
+        this.connection.setVerbose(false);
+        this.connection.setPushHandler(this::onPush);
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (!connection.connect()) {
+                stats.recordConnectFailure();
+                return;
+            }
+            LoadScenario scenario = config.scenario.forClient(index);
+            if (!login() && scenario != LoadScenario.LOGIN_STORM) {
+                return;
+            }
+            switch (scenario) {
+                case LOGIN_STORM -> loginStorm();
+                case BROWSE -> browse();
+                case SUBSCRIBE -> subscribe();
+                case BID_WAR -> bidWar();
+                case MESSAGING -> messaging();
+                default -> throw new IllegalStateException("Unexpected scenario for client " + index);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private void onPush(Response push) {
+        stats.recordPush(push);
+        if (push.getData() instanceof Auction auction && watched.containsKey(auction.getAuctionId())) {
+            watched.put(auction.getAuctionId(), auction);
+        }
+    }
+
+    private boolean running() {
+        return System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted();
+    }
+
+    private Response call(RequestType type, Object payload) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            Response response = connection.sendRequestAsync(new Request(type, payload)).get(config.requestTimeoutMillis, TimeUnit.MILLISECONDS);
+            stats.recordResponse(type, System.nanoTime() - start, response);
+            return response;
+        } catch (ExecutionException | TimeoutException e) {
+            stats.recordError(type);
+            return null;
+        }
+    }
+
+    private static boolean succeeded(Response response) {
+        return response != null && response.isSuccess();
+    }
+
+    private void think(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis / 2 + (long) (random.nextDouble() * millis));
+        }
+    }
+
+    private boolean login() throws InterruptedException {
+        String username = config.userPrefix + index;
+        User credentials = new User();
+        credentials.setUsername(username);
+        credentials.setPasswordHash(config.password);
+        if (succeeded(call(RequestType.LOGIN_USER, credentials))) {
+            return true;
+        }
+        User registration = new User(username, config.password, username + "@load.test", Role.BUYER);
+        call(RequestType.REGISTER_USER, registration);
+        return succeeded(call(RequestType.LOGIN_USER, credentials));
+    }
+
+    private void loginStorm() throws InterruptedException {
+        while (running()) {
+            connection.disconnect();
+            if (!connection.connect()) {
+                stats.recordConnectFailure();
+                think(config.thinkTimeMillis);
+                continue;
+            }
+            login();
+            think(config.thinkTimeMillis);
+        }
+    }
+
+    private void browse() throws InterruptedException {
+        String cursor = null;
+        while (running()) {
+            int action = random.nextInt(10);
+            Auction target = catalog.random(random);
+            if (action == 0) {
+                call(RequestType.GET_ACTIVE_AUCTIONS, null);
+            } else if (action < 4) {
+                Response page = call(RequestType.GET_ACTIVE_AUCTIONS_PAGE, new PageRequest(cursor, 20));
+                cursor = succeeded(page) && page.getData() instanceof Page<?> p ? p.getNextCursor() : null;
+            } else if (action < 6 && target != null && target.getItem() != null && target.getItem().getName() != null) {
+                String[] words = target.getItem().getName().split("\\s+");
+                call(RequestType.SEARCH_AUCTIONS, new SearchQuery(words[random.nextInt(words.length)]));
+            } else if (action < 9 && target != null) {
+                call(RequestType.GET_AUCTION_DETAILS, target.getAuctionId());
+            } else if (target != null) {
+                call(RequestType.GET_BIDS_FOR_AUCTION, target.getAuctionId());
+            } else {
+                call(RequestType.PING, null);
+            }
+            think(config.thinkTimeMillis);
+        }
+    }
+
+    private void subscribe() throws InterruptedException {
+        for (int i = 0; i < config.subscriptionsPerClient && running(); i++) {
+            Auction target = catalog.random(random);
+            if (target != null) {
+                watch(target.getAuctionId());
+            }
+        }
+        while (running()) {
+            think(config.thinkTimeMillis * 4);
+            call(RequestType.PING, null);
+        }
+    }
+
+    private void watch(int auctionId) throws InterruptedException {
+        Response details = call(RequestType.GET_AUCTION_DETAILS, auctionId);
+        if (succeeded(details) && details.getData() instanceof Auction auction) {
+            watched.put(auctionId, auction);
+        }
+    }
+
+    private void bidWar() throws InterruptedException {
+        List<Integer> targets = new ArrayList<>();
+        while (running()) {
+            targets.removeIf(auctionId -> hasEnded(watched.get(auctionId)));
+            if (targets.isEmpty()) {
+                for (Auction auction : catalog.endingSoonest(config.hotAuctions)) {
+                    if (!hasEnded(auction)) {
+                        targets.add(auction.getAuctionId());
+                        watch(auction.getAuctionId());
+                    }
+                }
+                if (targets.isEmpty()) {
+                    think(config.thinkTimeMillis * 4);
+                    continue;
+                }
+            }
+
+            int auctionId = targets.get(random.nextInt(targets.size()));
+            Auction known = watched.get(auctionId);
+            if (known == null) {
+                watch(auctionId);
+                continue;
+            }
+            BigDecimal current = known.getCurrentHighestBid() != null ? known.getCurrentHighestBid() : known.getStartPrice();
+            BigDecimal amount = current.add(MIN_INCREMENT).add(BigDecimal.valueOf(random.nextInt(400), 2));
+            stats.bidSent(auctionId, amount, System.nanoTime());
+            if (!succeeded(call(RequestType.PLACE_BID, new Bid(auctionId, 0, amount)))) {
+                watch(auctionId);
+            }
+
+            long millisToEnd = known.getEndTime() != null ? known.getEndTime().getTime() - System.currentTimeMillis() : Long.MAX_VALUE;
+            think(millisToEnd < config.snipeWindowMillis ? random.nextInt(50) : config.thinkTimeMillis);
+        }
+    }
+
+    private static boolean hasEnded(Auction auction) {
+        return auction != null && (auction.getStatus() == Auction.AuctionStatus.ENDED || auction.getStatus() == Auction.AuctionStatus.CANCELLED
+                || (auction.getEndTime() != null && auction.getEndTime().getTime() <= System.currentTimeMillis()));
+    }
+
+    private void messaging() throws InterruptedException {
+        while (running()) {
+            Auction target = catalog.random(random);
+            if (target != null) {
+                call(RequestType.SEND_MESSAGE, new Message(target.getAuctionId(), 0, 0, "Is this still available? (load client " + index + ")"));
+            }
+            call(RequestType.GET_MY_MESSAGES_PAGE, new PageRequest(null, 20));
+            think(config.thinkTimeMillis * 2);
+        }
+    }
+}
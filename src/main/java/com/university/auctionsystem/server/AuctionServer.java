@@ -1,28 +1,47 @@
 package com.university.auctionsystem.server;
 
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.server.metrics.ServerMetrics;
 import com.university.auctionsystem.server.services.AuctionService;
 import com.university.auctionsystem.server.services.ItemService;
 import com.university.auctionsystem.server.services.UserService;
 import com.university.auctionsystem.server.services.MessageService;
+import com.university.auctionsystem.server.services.SearchService;
+import com.university.auctionsystem.server.transport.ClientChannel;
+import com.university.auctionsystem.server.transport.NioTransport;
+import com.university.auctionsystem.server.transport.ServerTransport;
+import com.university.auctionsystem.server.transport.SocketTransport;
 
 import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.util.Collections;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class AuctionServer {
+    private static final Logger log = Logger.getLogger(AuctionServer.class);
     private static final int PORT = 12345;
-    private ServerSocket serverSocket;
+    private static final int MAX_SESSIONS = Integer.getInteger("auction.maxSessions", 50_000);
+    private static final boolean USE_VIRTUAL_THREADS = Boolean.parseBoolean(System.getProperty("auction.virtualThreads", "true"));
+    private static final String TRANSPORT = System.getProperty("auction.transport", "socket");
+    private static final int NIO_EVENT_LOOPS = Integer.getInteger("auction.nio.eventLoops", Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final long DRAIN_TIMEOUT_SECONDS = 2;
+    private static final boolean METRICS_JMX = Boolean.parseBoolean(System.getProperty("auction.metrics.jmx", "true"));
+    private static final String METRICS_HTTP_HOST = System.getProperty("auction.metrics.httpHost", "127.0.0.1");
+    private static final int METRICS_HTTP_PORT = Integer.getInteger("auction.metrics.httpPort", 9091);
+    private static final boolean METRICS_DB_CALLERS = Boolean.getBoolean("auction.metrics.dbCallers");
+    private ServerTransport transport;
     private DatabaseManager dbManager;
     private UserService userService;
     private ItemService itemService;
     private AuctionService auctionService;
-    private boolean running = true;
+    private volatile boolean running = true;
+    private boolean shutdownComplete = false;
     private MessageService messageService;
+    private SearchService searchService;
+    private final ServerMetrics metrics = new ServerMetrics();
 
-    private final Set<ClientHandler> activeClientHandlers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final SessionRegistry sessions = new SessionRegistry();
 
 
     public AuctionServer() {
@@ -30,59 +49,117 @@ public class AuctionServer {
         userService = new UserService(dbManager);
         itemService = new ItemService(dbManager);
         messageService = new MessageService(dbManager, userService);
-        auctionService = new AuctionService(dbManager, itemService, activeClientHandlers);
+        auctionService = new AuctionService(dbManager, itemService, userService, sessions);
         itemService.setAuctionService(auctionService);
+        searchService = new SearchService(dbManager);
+        itemService.setSearchService(searchService);
+        auctionService.setSearchService(searchService);
+        searchService.rebuild();
+        dbManager.getConnectionPool().setLeaseListener(metrics::recordDbTime, METRICS_DB_CALLERS);
+    }
+
+    private void registerMetrics() {
+        ConnectionPool pool = dbManager.getConnectionPool();
+        metrics.registerGauge("sessions.active", () -> transport.getActiveConnections());
+        metrics.registerGauge("sessions.loggedInUsers", sessions::getLoggedInUserCount);
+        metrics.registerGauge("outbound.queued", () -> sessions.all().stream().mapToLong(ClientHandler::getOutboundBacklog).sum());
+        metrics.registerGauge("outbound.dropped", OutboundQueue::getTotalDropped);
+        metrics.registerGauge("outbound.coalesced", OutboundQueue::getTotalCoalesced);
+        metrics.registerGauge("outbound.overflowDisconnects", OutboundQueue::getTotalOverflowDisconnects);
+        metrics.registerGauge("auctions.active", auctionService::getActiveAuctionCount);
+        metrics.registerGauge("auctions.subscribed", auctionService::getSubscribedAuctionCount);
+        metrics.registerGauge("auctions.subscriptions", auctionService::getSubscriptionCount);
+        metrics.registerGauge("sessions.subscribed", auctionService::getSubscriberCount);
+        metrics.registerGauge("bids.pendingWrites", auctionService::getPendingBidWrites);
+        metrics.registerGauge("bids.persisted", auctionService::getPersistedBidCount);
+        metrics.registerGauge("bids.writeBatches", auctionService::getBidWriteBatchCount);
+        metrics.registerGauge("bids.journalSequence", auctionService::getJournalSequence);
+        metrics.registerGauge("bids.journalUnprojected", auctionService::getUnprojectedJournalBids);
+        metrics.registerGauge("bids.journalGroupCommits", auctionService::getJournalGroupCommits);
+        metrics.registerGauge("log.written", Logger::getWrittenCount);
+        metrics.registerGauge("log.dropped", Logger::getDroppedCount);
+        metrics.registerGauge("db.pool.active", pool::getActiveCount);
+        metrics.registerGauge("db.pool.idle", pool::getIdleCount);
+        metrics.registerGauge("db.pool.waiting", pool::getWaitingCount);
+        metrics.registerGauge("db.pool.borrowTimeouts", pool::getBorrowTimeouts);
+        metrics.registerGauge("db.pool.statementsPrepared", pool::getStatementsPrepared);
+        metrics.registerGauge("db.pool.statementsReused", pool::getStatementsReused);
+        metrics.registerGauge("db.pool.statementsEvicted", pool::getStatementsEvicted);
+        metrics.registerGauge("db.pool.statementReusePermille", () -> Math.round(pool.getStatementReuseRatio() * 1000));
+        metrics.registerHistogram("push.publishLag", auctionService.getBroadcastPublishLag());
+        metrics.registerHistogram("push.writeLag", OutboundQueue.getUpdateWriteLag());
+        if (METRICS_JMX) {
+            metrics.registerMBean();
+        }
+        if (METRICS_HTTP_PORT >= 0) {
+            metrics.startHttpEndpoint(METRICS_HTTP_HOST, METRICS_HTTP_PORT);
+        }
+    }
+
+    private ClientHandler createClientHandler(ClientChannel channel) {
+        return new ClientHandler(channel, userService, itemService, auctionService, messageService, searchService, sessions, metrics);
+    }
+
+    private ServerTransport createTransport() {
+        if ("nio".equalsIgnoreCase(TRANSPORT)) {
+            return new NioTransport(PORT, MAX_SESSIONS, NIO_EVENT_LOOPS, this::createClientHandler);
+        }
+        return new SocketTransport(PORT, MAX_SESSIONS, USE_VIRTUAL_THREADS, this::createClientHandler);
     }
 
     public void startServer() {
         try {
-            serverSocket = new ServerSocket(PORT);
-            System.out.println("Auction Server started on port " + PORT);
+            transport = createTransport();
+            log.info("Auction Server starting on port {} using {} transport", PORT, TRANSPORT);
 
             Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+            registerMetrics();
 
-
-            while (running) {
-                try {
-                    Socket clientSocket = serverSocket.accept();
-                    System.out.println("New client connected: " + clientSocket.getInetAddress());
-                    ClientHandler clientHandler = new ClientHandler(clientSocket, userService, itemService, auctionService, messageService, activeClientHandlers);
-                    clientHandler.start();
-                } catch (IOException e) {
-                    if (running) {
-                        System.err.println("Error accepting client connection: " + e.getMessage());
-                    }
-                }
-            }
+            transport.start();
         } catch (IOException e) {
-            System.err.println("Could not start server on port " + PORT + ": " + e.getMessage());
-            e.printStackTrace();
+            if (running) {
+                log.error("Could not start server on port {}", PORT, e);
+            }
         } finally {
             shutdown();
         }
     }
 
-    public void shutdown() {
+    public synchronized void shutdown() {
+        if (shutdownComplete) {
+            return;
+        }
         running = false;
-        System.out.println("Shutting down server...");
-        for (ClientHandler handler : activeClientHandlers) {
-            handler.closeConnectionGracefully();
+        log.info("Shutting down server...");
+        if (transport != null) {
+            transport.close();
+        }
+        List<ClientHandler> handlers = new ArrayList<>(sessions.all());
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DRAIN_TIMEOUT_SECONDS);
+        for (ClientHandler handler : handlers) {
+            handler.awaitOutboundDrained(Math.max(0, drainDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        for (ClientHandler handler : handlers) {
+            handler.closeConnection();
         }
-        activeClientHandlers.clear();
+        if (transport != null && !transport.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Some client sessions did not terminate within {}s.", SHUTDOWN_TIMEOUT_SECONDS);
+        }
+        sessions.clear();
         if (auctionService != null) {
             auctionService.shutdownScheduler();
+            auctionService.flushPendingBids();
+        }
+        if (userService != null) {
+            log.info("User cache {}", userService.getUserCacheStats());
         }
+        metrics.close();
         if (dbManager != null) {
             dbManager.closeConnection();
         }
-        if (serverSocket != null && !serverSocket.isClosed()) {
-            try {
-                serverSocket.close();
-                System.out.println("Server socket closed.");
-            } catch (IOException e) {
-                System.err.println("Error closing server socket: " + e.getMessage());
-            }
-        }
+        Logger.shutdown();
+        System.out.print("Final server metrics:\n" + metrics.render());
+        shutdownComplete = true;
         System.out.println("Server shutdown complete.");
     }
 
@@ -93,4 +170,4 @@ public class AuctionServer {
     }
 
 
-}
\ No newline at end of file
+}
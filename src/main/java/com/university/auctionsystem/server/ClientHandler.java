@@ -1,5 +1,7 @@
 package com.university.auctionsystem.server;
 
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.server.metrics.ServerMetrics;
 import com.university.auctionsystem.server.services.AuctionService;
 import com.university.auctionsystem.server.services.ItemService;
 import com.university.auctionsystem.server.services.UserService;
@@ -8,94 +10,89 @@ import com.university.auctionsystem.shared.protocol.Request;
 import com.university.auctionsystem.shared.protocol.RequestType;
 import com.university.auctionsystem.shared.protocol.Response;
 import com.university.auctionsystem.server.services.MessageService;
+import com.university.auctionsystem.server.services.SearchService;
 import com.university.auctionsystem.shared.model.Message;
+import com.university.auctionsystem.server.transport.ClientChannel;
 
-import java.io.EOFException;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.net.Socket;
-import java.net.SocketException;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-public class ClientHandler extends Thread {
-    private Socket clientSocket;
-    private ObjectOutputStream out;
-    private ObjectInputStream in;
+public final class ClientHandler {
+    private static final Logger log = Logger.getLogger(ClientHandler.class);
+
+    private final ClientChannel channel;
     private UserService userService;
     private ItemService itemService;
     private AuctionService auctionService;
-    private User currentUser;
+    private volatile User currentUser;
 
-    private Set<ClientHandler> activeClientHandlers;
+    private final SessionRegistry sessions;
     private volatile boolean handlerRunning = true;
+    private final AtomicBoolean closed = new AtomicBoolean();
     private MessageService messageService;
+    private SearchService searchService;
+    private final OutboundQueue outboundQueue;
+    private final ServerMetrics metrics;
 
-    public ClientHandler(Socket socket, UserService userService, ItemService itemService, AuctionService auctionService, MessageService messageService, Set<ClientHandler> activeClientHandlers) {
-        this.clientSocket = socket;
+    public ClientHandler(ClientChannel channel, UserService userService, ItemService itemService, AuctionService auctionService, MessageService messageService, SearchService searchService, SessionRegistry sessions, ServerMetrics metrics) {
+        this.channel = channel;
         this.userService = userService;
         this.itemService = itemService;
         this.auctionService = auctionService;
         this.messageService = messageService;
-        this.activeClientHandlers = activeClientHandlers;
+        this.searchService = searchService;
+        this.sessions = sessions;
+        this.metrics = metrics;
+        this.outboundQueue = new OutboundQueue(channel, this::closeConnection, channel.getRemoteAddress());
     }
 
     public User getCurrentUser() {
         return currentUser;
     }
 
+    public boolean isRunning() {
+        return handlerRunning;
+    }
+
+    public String describe() {
+        return currentUser != null ? currentUser.getUsername() : channel.getRemoteAddress();
+    }
+
     public void sendAuctionUpdate(Auction auction) {
-        if (out != null) {
-            try {
-                Response updateResponse = new Response(true, "Auction Updated", auction, RequestType.AUCTION_UPDATE);
-                out.writeObject(updateResponse);
-                out.flush();
-            } catch (IOException e) {
-                System.err.println("Error sending auction update to client: " + e.getMessage());
-            }
+        if (handlerRunning) {
+            Response updateResponse = new Response(true, "Auction Updated", auction, RequestType.AUCTION_UPDATE);
+            outboundQueue.enqueueUpdate(auction.getAuctionId(), updateResponse);
         }
     }
 
+    public int getOutboundBacklog() {
+        return outboundQueue.size();
+    }
 
-    @Override
-    public void run() {
-        activeClientHandlers.add(this);
-        try {
-            out = new ObjectOutputStream(clientSocket.getOutputStream());
-            out.flush();
-            in = new ObjectInputStream(clientSocket.getInputStream());
-
-            Request request;
-            while (handlerRunning && (request = (Request) in.readObject()) != null) {
-                if (request.getType() == RequestType.DISCONNECT) {
-                    handlerRunning = false;
-                    break;
-                }
-                Response response = processRequest(request);
-                if (response != null) {
-                    out.writeObject(response);
-                    out.flush();
-                }
-                if (!handlerRunning) break;
-            }
-        } catch (SocketException | EOFException e) {
-            System.out.println("Client " + (currentUser != null ? currentUser.getUsername() : clientSocket.getInetAddress()) + " disconnected: " + e.getMessage());
-        } catch (IOException | ClassNotFoundException e) {
-            if (handlerRunning && !clientSocket.isClosed()) {
-                System.err.println("ClientHandler Error for " + (currentUser != null ? currentUser.getUsername() : clientSocket.getInetAddress()) + ": " + e.getMessage());
-                e.printStackTrace();
-            }
-        } finally {
-            closeConnection();
+    public void open() {
+        sessions.register(this);
+    }
+
+    public boolean handleRequest(Request request) {
+        if (request.getType() == RequestType.DISCONNECT) {
+            handlerRunning = false;
+            return false;
+        }
+        long startNanos = System.nanoTime();
+        Response response = processRequest(request);
+        metrics.recordRequest(request.getType(), System.nanoTime() - startNanos, response == null || response.isSuccess());
+        if (response != null) {
+            outboundQueue.enqueueReply(response);
         }
+        return handlerRunning;
     }
 
     private Response processRequest(Request request) {
         RequestType type = request.getType();
         Object payload = request.getPayload();
         String correlationId = request.getCorrelationId();
-        System.out.println("Server received request: " + type + " with payload: " + (payload != null ? payload.toString().substring(0, Math.min(100, payload.toString().length())) : "null"));
+        log.debug("Received {} with payload {}", type, payload);
 
 
         try {
@@ -112,7 +109,9 @@ public class ClientHandler extends Thread {
                     User credentials = (User) payload;
                     User loggedInUser = userService.loginUser(credentials.getUsername(), credentials.getPasswordHash());
                     if (loggedInUser != null) {
+                        User previousUser = currentUser;
                         this.currentUser = loggedInUser;
+                        sessions.bindUser(this, previousUser, loggedInUser);
                         return new Response(true, "Login successful", loggedInUser, type, correlationId);
                     } else {
                         return new Response(false, "Login failed. Invalid credentials.", null, type, correlationId);
@@ -145,8 +144,14 @@ public class ClientHandler extends Thread {
                         return new Response(false, "Failed to create auction.", null, type, correlationId);
                     }
                 case GET_ACTIVE_AUCTIONS:
-                    List<Auction> activeAuctions = auctionService.getActiveAuctions();
-                    return new Response(true, "Fetched active auctions.", activeAuctions, type, correlationId);
+                    return new Response(true, "Fetched active auctions.", auctionService.getActiveAuctionsSnapshot(), type, correlationId);
+
+                case GET_ACTIVE_AUCTIONS_PAGE:
+                    if (payload != null && !(payload instanceof PageRequest)) {
+                        return new Response(false, "Invalid payload for paged request.", null, type, correlationId);
+                    }
+                    Page<Auction> activePage = auctionService.getActiveAuctionsPage((PageRequest) payload);
+                    return new Response(true, "Fetched active auctions.", activePage, type, correlationId);
 
                 case GET_AUCTION_DETAILS:
                     Integer auctionId = (Integer) payload;
@@ -157,6 +162,22 @@ public class ClientHandler extends Thread {
                     } else {
                         return new Response(false, "Auction not found.", null, type, correlationId);
                     }
+                case SEARCH_AUCTIONS:
+                    SearchQuery auctionQuery = toSearchQuery(payload);
+                    if (auctionQuery == null) {
+                        return new Response(false, "Invalid payload for auction search.", null, type, correlationId);
+                    }
+                    List<Auction> foundAuctions = searchService.searchAuctions(auctionQuery);
+                    return new Response(true, "Found " + foundAuctions.size() + " auctions.", foundAuctions, type, correlationId);
+
+                case SEARCH_ITEMS:
+                    SearchQuery itemQuery = toSearchQuery(payload);
+                    if (itemQuery == null) {
+                        return new Response(false, "Invalid payload for item search.", null, type, correlationId);
+                    }
+                    List<Item> foundItems = searchService.searchItems(itemQuery);
+                    return new Response(true, "Found " + foundItems.size() + " items.", foundItems, type, correlationId);
+
                 case GET_SELLER_ITEMS:
                     if (currentUser == null || currentUser.getRole() != Role.SELLER) {
                         return new Response(false, "Unauthorized or not logged in as Seller.", null, type, correlationId);
@@ -170,11 +191,27 @@ public class ClientHandler extends Thread {
                     }
                     Bid bid = (Bid) payload;
                     bid.setBidderId(currentUser.getUserId());
-                    Bid placedBid = auctionService.placeBid(bid);
-                    if (placedBid != null) {
-                        return new Response(true, "Bid placed successfully.", placedBid, type, correlationId);
-                    } else {
+                    Auction biddedAuction = auctionService.placeBid(bid);
+                    if (biddedAuction == null) {
                         return new Response(false, "Failed to place bid. It might be too low or auction ended.", null, type, correlationId);
+                    } else if (AuctionService.lostTieToProxy(bid, biddedAuction)) {
+                        return new Response(false, "Outbid by an earlier automatic bid. Current price is " + biddedAuction.getCurrentHighestBid() + ".", biddedAuction, type, correlationId);
+                    } else {
+                        return new Response(true, "Bid placed successfully.", bid, type, correlationId);
+                    }
+                case PLACE_PROXY_BID:
+                    if (currentUser == null || currentUser.getRole() != Role.BUYER) {
+                        return new Response(false, "Unauthorized or not logged in as Buyer.", null, type, correlationId);
+                    }
+                    Bid maxBid = (Bid) payload;
+                    maxBid.setBidderId(currentUser.getUserId());
+                    Auction proxiedAuction = auctionService.placeProxyBid(maxBid);
+                    if (proxiedAuction == null) {
+                        return new Response(false, "Failed to set automatic bid. It might be too low or auction ended.", null, type, correlationId);
+                    } else if (proxiedAuction.getWinningBidderId() == currentUser.getUserId()) {
+                        return new Response(true, "Automatic bid set. You are the highest bidder at " + proxiedAuction.getCurrentHighestBid() + ".", proxiedAuction, type, correlationId);
+                    } else {
+                        return new Response(true, "Outbid by an earlier automatic bid. Current price is " + proxiedAuction.getCurrentHighestBid() + ".", proxiedAuction, type, correlationId);
                     }
                 case GET_BIDS_FOR_AUCTION:
                     Integer auctionIdForBids = (Integer) payload;
@@ -258,6 +295,26 @@ public class ClientHandler extends Thread {
                     List<User> allUsers = userService.getAllUsers();
                     return new Response(true, "Fetched all users.", allUsers, type, correlationId);
 
+                case GET_ALL_USERS_PAGE:
+                    if (currentUser == null || currentUser.getRole() != Role.ADMIN) {
+                        return new Response(false, "Unauthorized. Admin access required.", null, type, correlationId);
+                    }
+                    if (payload != null && !(payload instanceof PageRequest)) {
+                        return new Response(false, "Invalid payload for paged request.", null, type, correlationId);
+                    }
+                    Page<User> usersPage = userService.getAllUsersPage((PageRequest) payload);
+                    return new Response(true, "Fetched users.", usersPage, type, correlationId);
+
+                case GET_ALL_AUCTIONS_PAGE:
+                    if (currentUser == null || currentUser.getRole() != Role.ADMIN) {
+                        return new Response(false, "Unauthorized. Admin access required.", null, type, correlationId);
+                    }
+                    if (payload != null && !(payload instanceof PageRequest)) {
+                        return new Response(false, "Invalid payload for paged request.", null, type, correlationId);
+                    }
+                    Page<Auction> auctionsPage = auctionService.getAllAuctionsForAdminPage((PageRequest) payload);
+                    return new Response(true, "Fetched auctions.", auctionsPage, type, correlationId);
+
                 case GET_ALL_AUCTIONS:
                     if (currentUser == null || currentUser.getRole() != Role.ADMIN) {
                         return new Response(false, "Unauthorized. Admin access required.", null, type, correlationId);
@@ -282,28 +339,21 @@ public class ClientHandler extends Thread {
                     if (msgToSend.getReceiverId() <= 0) {
                         Auction auctionContext = auctionService.getAuctionDetails(msgToSend.getAuctionId());
                         if (auctionContext == null || auctionContext.getItem() == null) {
-                            System.err.println("ClientHandler: Auction context or item not found for initial message. AuctionID: " + msgToSend.getAuctionId());
+                            log.warn("Auction context or item not found for initial message. AuctionID: {}", msgToSend.getAuctionId());
                             return new Response(false, "Auction context not found for message.", null, type, correlationId);
                         }
                         int sellerOfItemId = auctionContext.getItem().getSellerId();
                         if (sellerOfItemId <= 0) {
-                            System.err.println("ClientHandler: Invalid SellerID determined for initial message: " + sellerOfItemId);
+                            log.warn("Invalid SellerID determined for initial message: {}", sellerOfItemId);
                             return new Response(false, "Could not determine a valid seller for this item.", null, type, correlationId);
                         }
                         msgToSend.setReceiverId(sellerOfItemId);
-                        System.out.println("ClientHandler SEND_MESSAGE (Initial): Determined ReceiverID (SellerOfItem)=" + sellerOfItemId);
-                    } else {
-                        System.out.println("ClientHandler SEND_MESSAGE (Reply): ReceiverID provided by client=" + msgToSend.getReceiverId());
                     }
 
-
-                    System.out.println("ClientHandler SEND_MESSAGE: AuctionID=" + msgToSend.getAuctionId() +
-                            ", SenderID=" + msgToSend.getSenderId() +
-                            ", ReceiverID=" + msgToSend.getReceiverId() +
-                            ", Text Preview=" + msgToSend.getMessageText().substring(0, Math.min(20, msgToSend.getMessageText().length())));
+                    log.debug("SEND_MESSAGE: AuctionID={}, SenderID={}, ReceiverID={}", msgToSend.getAuctionId(), msgToSend.getSenderId(), msgToSend.getReceiverId());
 
                     if (msgToSend.getSenderId() == msgToSend.getReceiverId()) {
-                        System.err.println("ClientHandler: Sender is the same as receiver for message. Blocking.");
+                        log.warn("Sender {} tried to message themselves. Blocking.", msgToSend.getSenderId());
                         return new Response(false, "Cannot send message to yourself.", null, type, correlationId);
                     }
 
@@ -322,6 +372,16 @@ public class ClientHandler extends Thread {
                     List<Message> myMessages = messageService.getMessagesForUser(currentUser.getUserId());
                     return new Response(true, "Fetched your messages.", myMessages, type, correlationId);
 
+                case GET_MY_MESSAGES_PAGE:
+                    if (currentUser == null) {
+                        return new Response(false, "Not logged in.", null, type, correlationId);
+                    }
+                    if (payload != null && !(payload instanceof PageRequest)) {
+                        return new Response(false, "Invalid payload for paged request.", null, type, correlationId);
+                    }
+                    Page<Message> messagesPage = messageService.getMessagesForUserPage(currentUser.getUserId(), (PageRequest) payload);
+                    return new Response(true, "Fetched your messages.", messagesPage, type, correlationId);
+
                 case MARK_MESSAGE_AS_READ:
                     if (currentUser == null) {
                         return new Response(false, "Not logged in.", null, type, correlationId);
@@ -376,59 +436,52 @@ public class ClientHandler extends Thread {
                 default:
                     return new Response(false, "Unknown request type: " + type, null, type, correlationId);
             }
+        } catch (IllegalArgumentException e) {
+            return new Response(false, e.getMessage(), null, type, correlationId);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Error processing {} for {}", type, describe(), e);
             return new Response(false, "Server error processing request: " + e.getMessage(), null, type, correlationId);
         }
     }
 
-    private void closeConnection() {
-        handlerRunning = false;
-        System.out.println("Closing connection for " + (currentUser != null ? currentUser.getUsername() : clientSocket.getInetAddress()));
-        activeClientHandlers.remove(this);
-        auctionService.unsubscribeClientFromAllAuctions(this);
-        try {
-            if (in != null) in.close();} catch (IOException e) {
-            e.printStackTrace();
+    private SearchQuery toSearchQuery(Object payload) {
+        if (payload instanceof SearchQuery query) {
+            return query;
         }
-        try { if (out != null) out.close();} catch (IOException e) {
-            e.printStackTrace();
-        }
-        try { if (clientSocket != null && !clientSocket.isClosed()) clientSocket.close();
-        } catch (IOException e) {
-            e.printStackTrace();
+        if (payload == null || payload instanceof String) {
+            return new SearchQuery((String) payload);
         }
+        return null;
     }
 
-    public void closeConnectionGracefully() {
+    public void closeConnection() {
         handlerRunning = false;
-        if (this.isAlive()) {
-            this.interrupt();
-        } else {
-            closeConnection();
+        if (!closed.compareAndSet(false, true)) {
+            return;
         }
+        log.info("Closing connection for {}", describe());
+        sessions.unregister(this, currentUser);
+        auctionService.unsubscribeClientFromAllAuctions(this);
+        outboundQueue.close();
+        channel.close();
+    }
+
+    public boolean awaitOutboundDrained(long timeout, TimeUnit unit) {
+        return outboundQueue.awaitDrained(timeout, unit);
     }
 
     public void sendNotification(Response notificationResponse) {
-        if (out != null && handlerRunning && !clientSocket.isClosed()) {
-            try {
-                System.out.println("Server sending notification " + notificationResponse.getOriginalRequestType() + " to " + (currentUser != null ? currentUser.getUsername() : "client"));
-                out.writeObject(notificationResponse);
-                out.flush();
-            } catch (IOException e) {
-                System.err.println("Error sending notification to client " + (currentUser != null ? currentUser.getUsername() : "") + ": " + e.getMessage());
-            }
+        if (handlerRunning && channel.isOpen()) {
+            log.debug("Sending notification {} to {}", notificationResponse.getOriginalRequestType(), describe());
+            outboundQueue.enqueueReply(notificationResponse);
         }
     }
 
     private void notifyReceiverOfNewMessage(Message message) {
-        for (ClientHandler handler : activeClientHandlers) {
-            if (handler.getCurrentUser() != null && handler.getCurrentUser().getUserId() == message.getReceiverId()) {
-                Response msgNotification = new Response(true, "You have a new message from " + message.getSenderUsername(), message, RequestType.AUCTION_UPDATE);
-                handler.sendNotification(msgNotification);
-                System.out.println("Notified user " + message.getReceiverUsername() + " of new message.");
-                break;
-            }
+        Response msgNotification = new Response(true, "You have a new message from " + message.getSenderUsername(), message, RequestType.AUCTION_UPDATE);
+        for (ClientHandler handler : sessions.sessionsFor(message.getReceiverId())) {
+            handler.sendNotification(msgNotification);
+            log.debug("Notified user {} of new message.", message.getReceiverUsername());
         }
     }
 
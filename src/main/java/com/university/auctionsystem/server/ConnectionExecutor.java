@@ -0,0 +1,72 @@
+package com.university.auctionsystem.server;
+
+import com.university.auctionsystem.server.logging.Logger;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class ConnectionExecutor {
+    private static final Logger log = Logger.getLogger(ConnectionExecutor.class);
+
+    private final ExecutorService executor;
+    private final Semaphore sessionPermits;
+    private final int maxSessions;
+
+    public ConnectionExecutor(int maxSessions, boolean useVirtualThreads) {
+        this.maxSessions = maxSessions;
+        this.sessionPermits = new Semaphore(maxSessions);
+        if (useVirtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("client-", 0).factory());
+        } else {
+            this.executor = Executors.newCachedThreadPool(Thread.ofPlatform().name("client-", 0).daemon(true).factory());
+        }
+    }
+
+    public boolean submit(Runnable session) {
+        if (executor.isShutdown() || !sessionPermits.tryAcquire()) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    session.run();
+                } finally {
+                    sessionPermits.release();
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            sessionPermits.release();
+            log.error("Could not start session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public int getActiveSessions() {
+        return maxSessions - sessionPermits.availablePermits();
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        try {
+            if (executor.awaitTermination(timeout, unit)) {
+                return true;
+            }
+            executor.shutdownNow();
+            return executor.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.university.auctionsystem.server;
+
+import com.university.auctionsystem.server.logging.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjLongConsumer;
+
+public class ConnectionPool {
+    private static final Logger log = Logger.getLogger(ConnectionPool.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final long VALIDATE_AFTER_IDLE_MILLIS = 30_000;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<IdleConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Map<Connection, StatementCache> statementCaches = Collections.synchronizedMap(new IdentityHashMap<>());
+    private volatile boolean closed = false;
+    private static final String ANY_CALLER = "all";
+
+    private volatile ObjLongConsumer<String> leaseListener;
+    private volatile boolean leaseCallers;
+
+    private final AtomicLong connectionsCreated = new AtomicLong();
+    private final AtomicLong connectionsDiscarded = new AtomicLong();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong borrowTimeouts = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong statementsPrepared = new AtomicLong();
+    private final AtomicLong statementsReused = new AtomicLong();
+    private final AtomicLong statementsEvicted = new AtomicLong();
+
+    public ConnectionPool(String url, String user, String password, int maxSize, long borrowTimeoutMillis) {
+        this(url, user, password, maxSize, borrowTimeoutMillis, 0);
+    }
+
+    public ConnectionPool(String url, String user, String password, int maxSize, long borrowTimeoutMillis, int statementCacheSize) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    public void setLeaseListener(ObjLongConsumer<String> leaseListener, boolean perCaller) {
+        this.leaseCallers = perCaller;
+        this.leaseListener = leaseListener;
+    }
+
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed.");
+        }
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                borrowTimeouts.incrementAndGet();
+                throw new SQLTimeoutException("Timed out after " + borrowTimeoutMillis + "ms waiting for a database connection (pool size " + maxSize + ").");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+        totalWaitNanos.addAndGet(System.nanoTime() - waitStart);
+
+        try {
+            Connection physical = takeValidIdleConnection();
+            if (physical == null) {
+                physical = DriverManager.getConnection(url, user, password);
+                connectionsCreated.incrementAndGet();
+            }
+            borrowCount.incrementAndGet();
+            return wrap(physical);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private Connection takeValidIdleConnection() {
+        IdleConnection idle;
+        while ((idle = idleConnections.pollFirst()) != null) {
+            boolean needsValidation = System.currentTimeMillis() - idle.idleSince > VALIDATE_AFTER_IDLE_MILLIS;
+            try {
+                if (!idle.connection.isClosed() && (!needsValidation || idle.connection.isValid(VALIDATION_TIMEOUT_SECONDS))) {
+                    return idle.connection;
+                }
+            } catch (SQLException e) {
+                log.warn("Validation error: {}", e.getMessage());
+            }
+            validationFailures.incrementAndGet();
+            discard(idle.connection);
+        }
+        return null;
+    }
+
+    private void release(Connection physical, boolean broken) {
+        try {
+            if (closed || broken || physical.isClosed()) {
+                discard(physical);
+                return;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            idleConnections.offerFirst(new IdleConnection(physical, System.currentTimeMillis()));
+        } catch (SQLException e) {
+            log.warn("Could not reset returned connection, discarding it: {}", e.getMessage());
+            discard(physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void discard(Connection physical) {
+        connectionsDiscarded.incrementAndGet();
+        statementCaches.remove(physical);
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            log.warn("Error closing connection: {}", e.getMessage());
+        }
+    }
+
+    private Connection wrap(Connection physical) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PooledConnectionHandler(physical, statementCacheSize > 0 ? statementCaches.computeIfAbsent(physical, StatementCache::new) : null,
+                        leaseListener == null ? null : leaseCallers ? callerOutsidePool() : ANY_CALLER));
+    }
+
+    private static String callerOutsidePool() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> !frame.getClassName().startsWith(ConnectionPool.class.getName())
+                        && !frame.getClassName().equals(DatabaseManager.class.getName()))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1) + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    public void close() {
+        closed = true;
+        IdleConnection idle;
+        while ((idle = idleConnections.pollFirst()) != null) {
+            discard(idle.connection);
+        }
+        log.info("Closed. {}", getStatsSummary());
+    }
+
+    public int getMaxSize() { return maxSize; }
+    public int getActiveCount() { return maxSize - permits.availablePermits(); }
+    public int getIdleCount() { return idleConnections.size(); }
+    public int getWaitingCount() { return permits.getQueueLength(); }
+    public long getConnectionsCreated() { return connectionsCreated.get(); }
+    public long getConnectionsDiscarded() { return connectionsDiscarded.get(); }
+    public long getBorrowCount() { return borrowCount.get(); }
+    public long getBorrowTimeouts() { return borrowTimeouts.get(); }
+    public long getValidationFailures() { return validationFailures.get(); }
+    public long getStatementsPrepared() { return statementsPrepared.get(); }
+    public long getStatementsReused() { return statementsReused.get(); }
+    public long getStatementsEvicted() { return statementsEvicted.get(); }
+
+    public double getStatementReuseRatio() {
+        long total = statementsPrepared.get() + statementsReused.get();
+        return total == 0 ? 0 : (double) statementsReused.get() / total;
+    }
+
+    public double getAverageWaitMillis() {
+        long borrows = borrowCount.get();
+        return borrows == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / borrows;
+    }
+
+    public String getStatsSummary() {
+        return String.format("active=%d idle=%d waiting=%d max=%d created=%d discarded=%d borrows=%d timeouts=%d validationFailures=%d avgWaitMs=%.3f " +
+                        "statementsPrepared=%d statementsReused=%d statementsEvicted=%d statementReuseRatio=%.3f",
+                getActiveCount(), getIdleCount(), getWaitingCount(), maxSize, getConnectionsCreated(), getConnectionsDiscarded(),
+                getBorrowCount(), getBorrowTimeouts(), getValidationFailures(), getAverageWaitMillis(),
+                getStatementsPrepared(), getStatementsReused(), getStatementsEvicted(), getStatementReuseRatio());
+    }
+
+    private static class IdleConnection {
+        private final Connection connection;
+        private final long idleSince;
+
+        private IdleConnection(Connection connection, long idleSince) {
+            this.connection = connection;
+            this.idleSince = idleSince;
+        }
+    }
+
+    private class StatementCache {
+        private final Connection physical;
+        private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+        private volatile boolean broken = false;
+
+        private StatementCache(Connection physical) {
+            this.physical = physical;
+        }
+
+        synchronized PreparedStatement prepare(Connection owner, String sql, int autoGeneratedKeys) throws SQLException {
+            String key = autoGeneratedKeys + ":" + sql;
+            CachedStatement cached = statements.get(key);
+            if (cached != null && !cached.inUse) {
+                cached.inUse = true;
+                cached.owner = owner;
+                statementsReused.incrementAndGet();
+                return cached.proxy;
+            }
+            PreparedStatement statement = autoGeneratedKeys == Statement.NO_GENERATED_KEYS
+                    ? physical.prepareStatement(sql)
+                    : physical.prepareStatement(sql, autoGeneratedKeys);
+            statementsPrepared.incrementAndGet();
+            if (cached != null) {
+                return statement;
+            }
+            cached = new CachedStatement(this, key, statement, owner);
+            statements.put(key, cached);
+            evictOverflow();
+            return cached.proxy;
+        }
+
+        private void evictOverflow() {
+            Iterator<CachedStatement> iterator = statements.values().iterator();
+            while (statements.size() > statementCacheSize && iterator.hasNext()) {
+                CachedStatement eldest = iterator.next();
+                if (!eldest.inUse) {
+                    iterator.remove();
+                    eldest.closePhysical();
+                    statementsEvicted.incrementAndGet();
+                }
+            }
+        }
+
+        synchronized void release(CachedStatement cached) {
+            cached.inUse = false;
+            cached.owner = null;
+            if (!cached.reset()) {
+                statements.remove(cached.key, cached);
+                cached.closePhysical();
+                return;
+            }
+            evictOverflow();
+        }
+
+        synchronized void releaseAll() {
+            List<CachedStatement> leaked = new ArrayList<>();
+            for (CachedStatement cached : statements.values()) {
+                if (cached.inUse) {
+                    leaked.add(cached);
+                }
+            }
+            for (CachedStatement cached : leaked) {
+                release(cached);
+            }
+        }
+    }
+
+    private static class CachedStatement implements InvocationHandler {
+        private final StatementCache cache;
+        private final String key;
+        private final PreparedStatement physical;
+        private final PreparedStatement proxy;
+        private Connection owner;
+        private boolean inUse = true;
+
+        private CachedStatement(StatementCache cache, String key, PreparedStatement physical, Connection owner) {
+            this.cache = cache;
+            this.key = key;
+            this.physical = physical;
+            this.owner = owner;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    synchronized (cache) {
+                        if (inUse) {
+                            cache.release(this);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return !inUse;
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached[" + physical + "]";
+                default:
+                    break;
+            }
+            if (!inUse) {
+                throw new SQLException("Statement has already been closed.");
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null && sqlException.getSQLState().startsWith("08")) {
+                    cache.broken = true;
+                }
+                throw cause;
+            }
+        }
+
+        private boolean reset() {
+            try {
+                ResultSet openResults = physical.getResultSet();
+                if (openResults != null) {
+                    openResults.close();
+                }
+                physical.clearParameters();
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private void closePhysical() {
+            try {
+                physical.close();
+            } catch (SQLException e) {
+                log.warn("Error closing cached statement: {}", e.getMessage());
+            }
+        }
+    }
+
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final Connection physical;
+        private final StatementCache statementCache;
+        private final String caller;
+        private final long leasedAtNanos = System.nanoTime();
+        private boolean returned = false;
+        private boolean broken = false;
+
+        private PooledConnectionHandler(Connection physical, StatementCache statementCache, String caller) {
+            this.physical = physical;
+            this.statementCache = statementCache;
+            this.caller = caller;
+        }
+
+        @Override
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        if (statementCache != null) {
+                            statementCache.releaseAll();
+                            broken |= statementCache.broken;
+                        }
+                        release(physical, broken);
+                        ObjLongConsumer<String> listener = leaseListener;
+                        if (listener != null && caller != null) {
+                            listener.accept(caller, System.nanoTime() - leasedAtNanos);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + physical + "]";
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool.");
+            }
+            try {
+                if (statementCache != null && isCacheablePrepare(method)) {
+                    int autoGeneratedKeys = args.length > 1 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                    return statementCache.prepare((Connection) proxy, (String) args[0], autoGeneratedKeys);
+                }
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null && sqlException.getSQLState().startsWith("08")) {
+                    broken = true;
+                }
+                throw cause;
+            }
+        }
+
+        private boolean isCacheablePrepare(Method method) {
+            if (!method.getName().equals("prepareStatement")) {
+                return false;
+            }
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            return parameterTypes.length == 1 || (parameterTypes.length == 2 && parameterTypes[1] == int.class);
+        }
+    }
+}
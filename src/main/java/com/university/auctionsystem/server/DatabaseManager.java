@@ -1,51 +1,55 @@
 package com.university.auctionsystem.server;
 
+import com.university.auctionsystem.server.logging.Logger;
+
 import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 
 public class DatabaseManager {
-    private static final String DB_URL = "jdbc:mysql://localhost:3306/auction_system_db?useSSL=false&serverTimezone=Asia/Dhaka";
-    private static final String DB_USER = "root";
-    private static final String DB_PASSWORD = "admin@123/admin";
-
-    private Connection connection;
+    private static final Logger log = Logger.getLogger(DatabaseManager.class);
+    private static final String DB_URL = System.getProperty("auction.db.url", "jdbc:mysql://localhost:3306/auction_system_db?useSSL=false&serverTimezone=Asia/Dhaka");
+    private static final String DB_USER = System.getProperty("auction.db.user", "root");
+    private static final String DB_PASSWORD = System.getProperty("auction.db.password", "admin@123/admin");
+    private static final int POOL_SIZE = Integer.getInteger("auction.db.poolSize", Math.max(10, Runtime.getRuntime().availableProcessors() * 2));
+    private static final long BORROW_TIMEOUT_MILLIS = Long.getLong("auction.db.borrowTimeoutMs", 5_000);
+    private static final int STATEMENT_CACHE_SIZE = Integer.getInteger("auction.db.statementCacheSize", 64);
+    private static final boolean SERVER_PREPARED_STATEMENTS = Boolean.parseBoolean(System.getProperty("auction.db.serverPrepStmts", "true"));
+    private static final boolean REWRITE_BATCHED_STATEMENTS = Boolean.parseBoolean(System.getProperty("auction.db.rewriteBatchedStatements", "true"));
+
+    private final ConnectionPool connectionPool;
 
     public DatabaseManager() {
         try {
             Class.forName("com.mysql.cj.jdbc.Driver");
         } catch (ClassNotFoundException e) {
-            System.err.println("MySQL JDBC Driver not found.");
-            e.printStackTrace();
-
+            log.error("MySQL JDBC Driver not found.", e);
         }
+        connectionPool = new ConnectionPool(withBatchRewrite(withServerPrepare(DB_URL)), DB_USER, DB_PASSWORD, POOL_SIZE, BORROW_TIMEOUT_MILLIS, STATEMENT_CACHE_SIZE);
     }
 
-    public Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            connection = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+    private static String withServerPrepare(String url) {
+        if (!SERVER_PREPARED_STATEMENTS || url.contains("useServerPrepStmts")) {
+            return url;
         }
-        return connection;
+        return url + (url.contains("?") ? "&" : "?") + "useServerPrepStmts=true";
     }
 
-    public void closeConnection() {
-        if (connection != null) {
-            try {
-                connection.close();
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
+    private static String withBatchRewrite(String url) {
+        if (!REWRITE_BATCHED_STATEMENTS || !url.startsWith("jdbc:mysql:") || url.contains("rewriteBatchedStatements")) {
+            return url;
         }
+        return url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
     }
 
-    public PreparedStatement getPreparedStatement(String sql) throws SQLException {
-        return getConnection().prepareStatement(sql);
+    public Connection getConnection() throws SQLException {
+        return connectionPool.borrow();
+    }
+
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
     }
 
-    public PreparedStatement getPreparedStatement(String sql, int autoGeneratedKeys) throws SQLException {
-        return getConnection().prepareStatement(sql, autoGeneratedKeys);
+    public void closeConnection() {
+        connectionPool.close();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,192 @@
+package com.university.auctionsystem.server;
+
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.server.transport.ClientChannel;
+import com.university.auctionsystem.shared.metrics.LatencyHistogram;
+import com.university.auctionsystem.shared.protocol.Response;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class OutboundQueue {
+    private static final Logger log = Logger.getLogger(OutboundQueue.class);
+    enum OverflowPolicy { DROP_OLDEST, COALESCE, DISCONNECT }
+
+    static final int DEFAULT_CAPACITY = Integer.getInteger("auction.outbound.capacity", 1024);
+    static final OverflowPolicy DEFAULT_POLICY = OverflowPolicy.valueOf(System.getProperty("auction.outbound.overflowPolicy", "COALESCE").toUpperCase());
+
+    private static final AtomicLong totalDropped = new AtomicLong();
+    private static final AtomicLong totalCoalesced = new AtomicLong();
+    private static final AtomicLong totalOverflowDisconnects = new AtomicLong();
+    private static final LatencyHistogram updateWriteLag = new LatencyHistogram();
+
+    private final ClientChannel channel;
+    private final Runnable onDisconnect;
+    private final String name;
+    private final int capacity;
+    private final OverflowPolicy policy;
+
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private final Map<Integer, Entry> pendingUpdates = new HashMap<>();
+    private boolean writerActive = false;
+    private boolean closed = false;
+
+    OutboundQueue(ClientChannel channel, Runnable onDisconnect, String name) {
+        this(channel, onDisconnect, name, DEFAULT_CAPACITY, DEFAULT_POLICY);
+    }
+
+    OutboundQueue(ClientChannel channel, Runnable onDisconnect, String name, int capacity, OverflowPolicy policy) {
+        this.channel = channel;
+        this.onDisconnect = onDisconnect;
+        this.name = name;
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+
+    void enqueueReply(Response response) {
+        offer(new Entry(response, null));
+    }
+
+    void enqueueUpdate(int auctionId, Response response) {
+        offer(new Entry(response, auctionId));
+    }
+
+    private void offer(Entry entry) {
+        boolean startWriter = false;
+        boolean overflowed = false;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (entry.auctionId != null && policy == OverflowPolicy.COALESCE) {
+                Entry queued = pendingUpdates.get(entry.auctionId);
+                if (queued != null) {
+                    queued.response = entry.response;
+                    totalCoalesced.incrementAndGet();
+                    return;
+                }
+            }
+            if (entries.size() >= capacity && !evictForOverflow()) {
+                overflowed = true;
+            } else {
+                entries.addLast(entry);
+                if (entry.auctionId != null) {
+                    pendingUpdates.put(entry.auctionId, entry);
+                }
+                if (!writerActive) {
+                    writerActive = true;
+                    startWriter = true;
+                }
+            }
+        }
+        if (overflowed) {
+            totalOverflowDisconnects.incrementAndGet();
+            log.warn("{} fell {} messages behind, disconnecting slow consumer.", name, capacity);
+            onDisconnect.run();
+        } else if (startWriter) {
+            Thread.ofVirtual().name("outbound-" + name).start(this::drain);
+        }
+    }
+
+    private boolean evictForOverflow() {
+        if (policy == OverflowPolicy.DISCONNECT) {
+            return false;
+        }
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            Entry oldest = iterator.next();
+            if (oldest.auctionId != null) {
+                iterator.remove();
+                pendingUpdates.remove(oldest.auctionId, oldest);
+                totalDropped.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drain() {
+        while (true) {
+            Response next;
+            Entry sent;
+            synchronized (this) {
+                Entry entry = entries.pollFirst();
+                if (entry == null || closed) {
+                    writerActive = false;
+                    notifyAll();
+                    return;
+                }
+                if (entry.auctionId != null) {
+                    pendingUpdates.remove(entry.auctionId, entry);
+                }
+                next = entry.response;
+                sent = entry;
+            }
+            try {
+                channel.awaitWritable();
+                channel.send(next);
+                if (sent.auctionId != null) {
+                    updateWriteLag.record(System.nanoTime() - sent.enqueuedAtNanos);
+                }
+            } catch (IOException e) {
+                log.warn("Error writing to client {}: {}", name, e.getMessage());
+                close();
+                onDisconnect.run();
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                return;
+            }
+        }
+    }
+
+    synchronized boolean awaitDrained(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        try {
+            while (writerActive && !closed) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                wait(remainingMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    synchronized void close() {
+        closed = true;
+        entries.clear();
+        pendingUpdates.clear();
+        notifyAll();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    static long getTotalDropped() { return totalDropped.get(); }
+    static long getTotalCoalesced() { return totalCoalesced.get(); }
+    static long getTotalOverflowDisconnects() { return totalOverflowDisconnects.get(); }
+    static LatencyHistogram getUpdateWriteLag() { return updateWriteLag; }
+
+    private static class Entry {
+        private Response response;
+        private final Integer auctionId;
+        private final long enqueuedAtNanos = System.nanoTime();
+
+        private Entry(Response response, Integer auctionId) {
+            this.response = response;
+            this.auctionId = auctionId;
+        }
+    }
+}
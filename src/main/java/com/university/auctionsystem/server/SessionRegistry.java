@@ -0,0 +1,71 @@
+package com.university.auctionsystem.server;
+
+import com.university.auctionsystem.shared.model.User;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+public class SessionRegistry {
+    private final Set<ClientHandler> sessions = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, Set<ClientHandler>> sessionsByUser = new ConcurrentHashMap<>();
+
+    public void register(ClientHandler handler) {
+        sessions.add(handler);
+    }
+
+    public void unregister(ClientHandler handler, User user) {
+        sessions.remove(handler);
+        if (user != null) {
+            unbind(handler, user.getUserId());
+        }
+    }
+
+    public void bindUser(ClientHandler handler, User previousUser, User user) {
+        if (previousUser != null && previousUser.getUserId() != user.getUserId()) {
+            unbind(handler, previousUser.getUserId());
+        }
+        sessionsByUser.compute(user.getUserId(), (userId, userSessions) -> {
+            if (userSessions == null) {
+                userSessions = new CopyOnWriteArraySet<>();
+            }
+            userSessions.add(handler);
+            return userSessions;
+        });
+        if (!handler.isRunning()) {
+            unbind(handler, user.getUserId());
+        }
+    }
+
+    private void unbind(ClientHandler handler, int userId) {
+        sessionsByUser.computeIfPresent(userId, (id, userSessions) -> {
+            userSessions.remove(handler);
+            return userSessions.isEmpty() ? null : userSessions;
+        });
+    }
+
+    public Collection<ClientHandler> sessionsFor(int userId) {
+        Set<ClientHandler> userSessions = sessionsByUser.get(userId);
+        return userSessions != null ? userSessions : Collections.emptySet();
+    }
+
+    public Collection<ClientHandler> all() {
+        return Collections.unmodifiableSet(sessions);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public int getLoggedInUserCount() {
+        return sessionsByUser.size();
+    }
+
+    public void clear() {
+        sessions.clear();
+        sessionsByUser.clear();
+    }
+}
@@ -0,0 +1,184 @@
+package com.university.auctionsystem.server.logging;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+final class AsyncLogAppender {
+    private static final int MAX_BATCH = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private final AtomicReferenceArray<LogEvent> slots;
+    private final int mask;
+    private final int maxPayloadChars;
+    private final PrintStream out;
+    private final PrintStream err;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    AsyncLogAppender(int capacity, int maxPayloadChars, PrintStream out, PrintStream err) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxPayloadChars = maxPayloadChars;
+        this.out = out;
+        this.err = err;
+        this.writer = new Thread(this::run, "AsyncLogWriter");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    boolean append(LogEvent event) {
+        if (!running) {
+            writeDirect(event);
+            return true;
+        }
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() >= slots.length()) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.lazySet((int) (claimed & mask), event);
+        return true;
+    }
+
+    private synchronized void writeDirect(LogEvent event) {
+        StringBuilder line = new StringBuilder(256);
+        format(event, line);
+        flush(line, event.level.compareTo(LogLevel.WARN) >= 0 ? err : out);
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    long getWrittenCount() {
+        return written.get();
+    }
+
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        StringBuilder outBatch = new StringBuilder(8192);
+        StringBuilder errBatch = new StringBuilder(1024);
+        while (running || head.get() != tail.get()) {
+            int drained = drainBatch(outBatch, errBatch);
+            if (drained == 0) {
+                if (running) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+
+    private int drainBatch(StringBuilder outBatch, StringBuilder errBatch) {
+        int drained = 0;
+        long position = head.get();
+        while (drained < MAX_BATCH && position != tail.get()) {
+            int index = (int) (position & mask);
+            LogEvent event = slots.get(index);
+            if (event == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            head.lazySet(++position);
+            format(event, event.level.compareTo(LogLevel.WARN) >= 0 ? errBatch : outBatch);
+            drained++;
+        }
+        if (drained > 0) {
+            flush(outBatch, out);
+            flush(errBatch, err);
+            written.addAndGet(drained);
+        }
+        return drained;
+    }
+
+    private static void flush(StringBuilder batch, PrintStream stream) {
+        if (batch.length() > 0) {
+            stream.print(batch);
+            stream.flush();
+            batch.setLength(0);
+        }
+    }
+
+    private void format(LogEvent event, StringBuilder line) {
+        line.append("ts=").append(Instant.ofEpochMilli(event.timestampMillis))
+                .append(" level=").append(event.level)
+                .append(" logger=").append(event.logger)
+                .append(" thread=").append(event.thread)
+                .append(" msg=\"");
+        try {
+            appendMessage(event, line);
+        } catch (RuntimeException e) {
+            line.append("<unformattable: ").append(e).append('>');
+        }
+        line.append('"');
+        if (event.error != null) {
+            line.append(" error=\"");
+            appendEscaped(line, String.valueOf(event.error), Integer.MAX_VALUE);
+            line.append("\"\n");
+            Throwable cause = event.error;
+            for (int depth = 0; cause != null && depth < 8; depth++, cause = cause.getCause()) {
+                if (depth > 0) {
+                    line.append("Caused by: ").append(cause).append('\n');
+                }
+                for (StackTraceElement frame : cause.getStackTrace()) {
+                    line.append("\tat ").append(frame).append('\n');
+                }
+            }
+        } else {
+            line.append('\n');
+        }
+    }
+
+    private void appendMessage(LogEvent event, StringBuilder line) {
+        String template = event.template;
+        Object[] args = event.args;
+        int argIndex = 0;
+        int start = 0;
+        int placeholder;
+        while (args != null && argIndex < args.length && (placeholder = template.indexOf("{}", start)) >= 0) {
+            appendEscaped(line, template.substring(start, placeholder), Integer.MAX_VALUE);
+            appendEscaped(line, String.valueOf(args[argIndex++]), maxPayloadChars);
+            start = placeholder + 2;
+        }
+        appendEscaped(line, template.substring(start), Integer.MAX_VALUE);
+    }
+
+    private static void appendEscaped(StringBuilder line, String text, int limit) {
+        int length = Math.min(text.length(), limit);
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c == '\n' || c == '\r') {
+                line.append(' ');
+            } else {
+                line.append(c);
+            }
+        }
+        if (length < text.length()) {
+            line.append("...(").append(text.length()).append(" chars)");
+        }
+    }
+}
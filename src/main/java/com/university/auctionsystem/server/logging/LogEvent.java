@@ -0,0 +1,22 @@
+package com.university.auctionsystem.server.logging;
+
+final class LogEvent {
+    final long timestampMillis;
+    final LogLevel level;
+    final String logger;
+    final String thread;
+    final String template;
+    final Object[] args;
+    final Throwable error;
+
+    LogEvent(LogLevel level, String logger, String template, Object[] args, Throwable error) {
+        this.timestampMillis = System.currentTimeMillis();
+        this.level = level;
+        this.logger = logger;
+        Thread current = Thread.currentThread();
+        this.thread = current.getName().isEmpty() ? "#" + current.threadId() : current.getName();
+        this.template = template;
+        this.args = args;
+        this.error = error;
+    }
+}
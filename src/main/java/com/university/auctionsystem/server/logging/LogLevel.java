@@ -0,0 +1,5 @@
+package com.university.auctionsystem.server.logging;
+
+public enum LogLevel {
+    DEBUG, INFO, WARN, ERROR, OFF
+}
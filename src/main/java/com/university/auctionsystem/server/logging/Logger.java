@@ -0,0 +1,101 @@
+package com.university.auctionsystem.server.logging;
+
+public final class Logger {
+    private static final LogLevel THRESHOLD = LogLevel.valueOf(System.getProperty("auction.log.level", "INFO").toUpperCase());
+    private static final int BUFFER_SIZE = Integer.getInteger("auction.log.bufferSize", 8192);
+    private static final int MAX_PAYLOAD_CHARS = Integer.getInteger("auction.log.maxPayloadChars", 200);
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private static volatile AsyncLogAppender appender;
+
+    private final String name;
+
+    private Logger(String name) {
+        this.name = name;
+    }
+
+    public static Logger getLogger(Class<?> type) {
+        return new Logger(type.getSimpleName());
+    }
+
+    public boolean isDebugEnabled() { return isEnabled(LogLevel.DEBUG); }
+    public boolean isInfoEnabled() { return isEnabled(LogLevel.INFO); }
+
+    public void debug(String template) { log(LogLevel.DEBUG, template, NO_ARGS); }
+    public void debug(String template, Object arg) { if (isEnabled(LogLevel.DEBUG)) log(LogLevel.DEBUG, template, new Object[]{arg}); }
+    public void debug(String template, Object arg1, Object arg2) { if (isEnabled(LogLevel.DEBUG)) log(LogLevel.DEBUG, template, new Object[]{arg1, arg2}); }
+    public void debug(String template, Object arg1, Object arg2, Object arg3) { if (isEnabled(LogLevel.DEBUG)) log(LogLevel.DEBUG, template, new Object[]{arg1, arg2, arg3}); }
+    public void debug(String template, Object... args) { log(LogLevel.DEBUG, template, args); }
+
+    public void info(String template) { log(LogLevel.INFO, template, NO_ARGS); }
+    public void info(String template, Object arg) { if (isEnabled(LogLevel.INFO)) log(LogLevel.INFO, template, new Object[]{arg}); }
+    public void info(String template, Object arg1, Object arg2) { if (isEnabled(LogLevel.INFO)) log(LogLevel.INFO, template, new Object[]{arg1, arg2}); }
+    public void info(String template, Object arg1, Object arg2, Object arg3) { if (isEnabled(LogLevel.INFO)) log(LogLevel.INFO, template, new Object[]{arg1, arg2, arg3}); }
+    public void info(String template, Object... args) { log(LogLevel.INFO, template, args); }
+
+    public void warn(String template) { log(LogLevel.WARN, template, NO_ARGS); }
+    public void warn(String template, Object arg) { if (isEnabled(LogLevel.WARN)) log(LogLevel.WARN, template, new Object[]{arg}); }
+    public void warn(String template, Object arg1, Object arg2) { if (isEnabled(LogLevel.WARN)) log(LogLevel.WARN, template, new Object[]{arg1, arg2}); }
+    public void warn(String template, Object arg1, Object arg2, Object arg3) { if (isEnabled(LogLevel.WARN)) log(LogLevel.WARN, template, new Object[]{arg1, arg2, arg3}); }
+    public void warn(String template, Object... args) { log(LogLevel.WARN, template, args); }
+
+    public void error(String template) { log(LogLevel.ERROR, template, NO_ARGS); }
+    public void error(String template, Object arg) { if (isEnabled(LogLevel.ERROR)) log(LogLevel.ERROR, template, new Object[]{arg}); }
+    public void error(String template, Object arg1, Object arg2) { if (isEnabled(LogLevel.ERROR)) log(LogLevel.ERROR, template, new Object[]{arg1, arg2}); }
+    public void error(String template, Object arg1, Object arg2, Object arg3) { if (isEnabled(LogLevel.ERROR)) log(LogLevel.ERROR, template, new Object[]{arg1, arg2, arg3}); }
+    public void error(String template, Object... args) { log(LogLevel.ERROR, template, args); }
+
+    private static boolean isEnabled(LogLevel level) {
+        return level.compareTo(THRESHOLD) >= 0 && level != LogLevel.OFF;
+    }
+
+    private void log(LogLevel level, String template, Object[] args) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        Throwable error = null;
+        if (args.length > 0 && args[args.length - 1] instanceof Throwable throwable && countPlaceholders(template) < args.length) {
+            error = throwable;
+        }
+        appender().append(new LogEvent(level, name, template, args, error));
+    }
+
+    private static int countPlaceholders(String template) {
+        int count = 0;
+        for (int i = template.indexOf("{}"); i >= 0; i = template.indexOf("{}", i + 2)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static AsyncLogAppender appender() {
+        AsyncLogAppender current = appender;
+        if (current == null) {
+            synchronized (Logger.class) {
+                current = appender;
+                if (current == null) {
+                    current = new AsyncLogAppender(BUFFER_SIZE, MAX_PAYLOAD_CHARS, System.out, System.err);
+                    appender = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public static long getDroppedCount() {
+        AsyncLogAppender current = appender;
+        return current != null ? current.getDroppedCount() : 0;
+    }
+
+    public static long getWrittenCount() {
+        AsyncLogAppender current = appender;
+        return current != null ? current.getWrittenCount() : 0;
+    }
+
+    public static void shutdown() {
+        AsyncLogAppender current = appender;
+        if (current != null) {
+            current.shutdown();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.university.auctionsystem.server.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.shared.metrics.LatencyHistogram;
+import com.university.auctionsystem.shared.protocol.RequestType;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class ServerMetrics {
+    private static final Logger log = Logger.getLogger(ServerMetrics.class);
+    private static final String OBJECT_NAME = "com.university.auctionsystem:type=ServerMetrics";
+
+    private final Map<RequestType, RequestStats> requestStats = new EnumMap<>(RequestType.class);
+    private final Map<String, LatencyHistogram> dbTimeByCaller = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final long startedAtMillis = System.currentTimeMillis();
+    private ObjectName registeredName;
+    private HttpServer httpServer;
+
+    public ServerMetrics() {
+        for (RequestType type : RequestType.values()) {
+            requestStats.put(type, new RequestStats());
+        }
+    }
+
+    public void recordRequest(RequestType type, long elapsedNanos, boolean success) {
+        RequestStats stats = requestStats.get(type);
+        stats.latency.record(elapsedNanos);
+        if (!success) {
+            stats.failures.incrementAndGet();
+        }
+    }
+
+    public void recordDbTime(String caller, long heldNanos) {
+        dbTimeByCaller.computeIfAbsent(caller, k -> new LatencyHistogram()).record(heldNanos);
+    }
+
+    public void registerHistogram(String name, LatencyHistogram histogram) {
+        histograms.put(name, histogram);
+    }
+
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    public Map<String, Number> snapshot() {
+        Map<String, Number> values = new LinkedHashMap<>();
+        values.put("uptimeSeconds", (System.currentTimeMillis() - startedAtMillis) / 1000);
+        new TreeMap<>(gauges).forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        long totalRequests = 0;
+        for (Map.Entry<RequestType, RequestStats> entry : requestStats.entrySet()) {
+            LatencyHistogram latency = entry.getValue().latency;
+            if (latency.getCount() == 0) {
+                continue;
+            }
+            totalRequests += latency.getCount();
+            String prefix = "request." + entry.getKey();
+            values.put(prefix + ".failures", entry.getValue().failures.get());
+            putLatency(values, prefix, latency);
+        }
+        values.put("request.total", totalRequests);
+        new TreeMap<>(dbTimeByCaller).forEach((caller, latency) -> putLatency(values, "db." + caller, latency));
+        new TreeMap<>(histograms).forEach((name, latency) -> putLatency(values, name, latency));
+        return values;
+    }
+
+    private static void putLatency(Map<String, Number> values, String prefix, LatencyHistogram latency) {
+        values.put(prefix + ".count", latency.getCount());
+        values.put(prefix + ".meanMicros", Math.round(latency.getMean() / 1_000.0));
+        values.put(prefix + ".p50Micros", latency.getPercentile(50) / 1_000);
+        values.put(prefix + ".p99Micros", latency.getPercentile(99) / 1_000);
+        values.put(prefix + ".maxMicros", latency.getMax() / 1_000);
+    }
+
+    public String render() {
+        StringBuilder text = new StringBuilder();
+        snapshot().forEach((name, value) -> text.append(name).append(' ').append(value).append('\n'));
+        return text.toString();
+    }
+
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new MetricsMBean(), name);
+            registeredName = name;
+            log.info("Registered JMX bean {}", OBJECT_NAME);
+        } catch (JMException e) {
+            log.warn("Could not register JMX bean: {}", e.getMessage());
+        }
+    }
+
+    public void startHttpEndpoint(String host, int port) {
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(host, port), 0);
+            httpServer.createContext("/metrics", exchange -> {
+                byte[] body = render().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            httpServer.start();
+            log.info("Serving metrics on http://{}:{}/metrics", host, httpServer.getAddress().getPort());
+        } catch (IOException e) {
+            httpServer = null;
+            log.warn("Could not start metrics endpoint on {}:{}: {}", host, port, e.getMessage());
+        }
+    }
+
+    public void close() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+        if (registeredName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            } catch (JMException e) {
+                log.warn("Could not unregister JMX bean: {}", e.getMessage());
+            }
+            registeredName = null;
+        }
+    }
+
+    private static class RequestStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong failures = new AtomicLong();
+    }
+
+    private class MetricsMBean implements DynamicMBean {
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            Number value = snapshot().get(attribute);
+            if (value == null) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return value.longValue();
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            Map<String, Number> values = snapshot();
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                Number value = values.get(attribute);
+                if (value != null) {
+                    list.add(new Attribute(attribute, value.longValue()));
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Server metrics are read-only.");
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException("Server metrics have no operations.");
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            Map<String, Number> values = snapshot();
+            MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[values.size()];
+            int i = 0;
+            for (String name : values.keySet()) {
+                attributes[i++] = new MBeanAttributeInfo(name, "long", name, true, false, false);
+            }
+            return new MBeanInfo(ServerMetrics.class.getName(), "Auction server latency, throughput and queue metrics.",
+                    attributes, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.protocol.CachedPayload;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+class ActiveAuctionListing {
+    private final Map<Integer, ListingKey> keys = new HashMap<>();
+    private final TreeMap<ListingKey, Auction> ordered = new TreeMap<>();
+    private long version = 0;
+    private CachedPayload snapshot;
+    private long rebuilds = 0;
+
+    synchronized void put(Auction auction) {
+        ListingKey previous = keys.get(auction.getAuctionId());
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+        long endTime = auction.getEndTime() != null ? auction.getEndTime().getTime() : Long.MAX_VALUE;
+        ListingKey key = new ListingKey(endTime, auction.getAuctionId());
+        keys.put(auction.getAuctionId(), key);
+        ordered.put(key, auction);
+        invalidate();
+    }
+
+    synchronized void remove(int auctionId) {
+        ListingKey key = keys.remove(auctionId);
+        if (key != null) {
+            ordered.remove(key);
+            invalidate();
+        }
+    }
+
+    synchronized CachedPayload snapshot() {
+        if (snapshot == null) {
+            List<Auction> auctions = Collections.unmodifiableList(new ArrayList<>(ordered.values()));
+            snapshot = new CachedPayload(auctions, version);
+            rebuilds++;
+        }
+        return snapshot;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Auction> getAuctions() {
+        return (List<Auction>) snapshot().getValue();
+    }
+
+    synchronized long getVersion() {
+        return version;
+    }
+
+    synchronized long getRebuildCount() {
+        return rebuilds;
+    }
+
+    synchronized int size() {
+        return ordered.size();
+    }
+
+    private void invalidate() {
+        version++;
+        snapshot = null;
+    }
+
+    private static class ListingKey implements Comparable<ListingKey> {
+        private final long endTime;
+        private final int auctionId;
+
+        private ListingKey(long endTime, int auctionId) {
+            this.endTime = endTime;
+            this.auctionId = auctionId;
+        }
+
+        @Override
+        public int compareTo(ListingKey other) {
+            int byEnd = Long.compare(endTime, other.endTime);
+            return byEnd != 0 ? byEnd : Integer.compare(auctionId, other.auctionId);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.model.Bid;
+
+import java.math.BigDecimal;
+
+class ActiveAuctionState {
+    private final Auction template;
+    private final int sellerId;
+    private final long endTimeMillis;
+    private BigDecimal currentHighestBid;
+    private int winningBidderId;
+    private int proxyBidderId;
+    private BigDecimal proxyMaxBid;
+
+    ActiveAuctionState(Auction auction) {
+        this.template = auction;
+        this.sellerId = auction.getItem() != null ? auction.getItem().getSellerId() : 0;
+        this.endTimeMillis = auction.getEndTime() != null ? auction.getEndTime().getTime() : Long.MAX_VALUE;
+        this.currentHighestBid = auction.getCurrentHighestBid() != null ? auction.getCurrentHighestBid() : auction.getStartPrice();
+        this.winningBidderId = auction.getWinningBidderId();
+    }
+
+    int getAuctionId() {
+        return template.getAuctionId();
+    }
+
+    int getSellerId() {
+        return sellerId;
+    }
+
+    long getEndTimeMillis() {
+        return endTimeMillis;
+    }
+
+    synchronized BigDecimal getCurrentHighestBid() {
+        return currentHighestBid;
+    }
+
+    synchronized int getWinningBidderId() {
+        return winningBidderId;
+    }
+
+    synchronized void accept(Bid bid) {
+        currentHighestBid = bid.getBidAmount();
+        winningBidderId = bid.getBidderId();
+    }
+
+    synchronized BigDecimal getLeaderCeiling() {
+        boolean leaderHasProxy = proxyBidderId == winningBidderId && proxyMaxBid != null;
+        return leaderHasProxy && proxyMaxBid.compareTo(currentHighestBid) > 0 ? proxyMaxBid : currentHighestBid;
+    }
+
+    synchronized boolean canRaiseProxy(int bidderId, BigDecimal maxBid) {
+        return bidderId == winningBidderId && (proxyBidderId != bidderId || proxyMaxBid == null || maxBid.compareTo(proxyMaxBid) > 0);
+    }
+
+    synchronized void raiseProxy(int bidderId, BigDecimal maxBid) {
+        if (canRaiseProxy(bidderId, maxBid)) {
+            proxyBidderId = bidderId;
+            proxyMaxBid = maxBid;
+        }
+    }
+
+    synchronized void dropProxy(int bidderId, BigDecimal maxBid) {
+        if (proxyBidderId == bidderId && proxyMaxBid != null && proxyMaxBid.compareTo(maxBid) == 0) {
+            proxyBidderId = 0;
+            proxyMaxBid = null;
+        }
+    }
+
+    synchronized boolean isLeadingBid(Bid bid) {
+        return winningBidderId == bid.getBidderId() && currentHighestBid.compareTo(bid.getBidAmount()) == 0;
+    }
+
+    synchronized void reset(BigDecimal highestBid, int winnerId) {
+        if (winnerId != winningBidderId) {
+            this.proxyBidderId = 0;
+            this.proxyMaxBid = null;
+        }
+        this.currentHighestBid = highestBid;
+        this.winningBidderId = winnerId;
+    }
+
+    synchronized void applyTo(Auction auction) {
+        auction.setCurrentHighestBid(currentHighestBid);
+        auction.setWinningBidderId(winningBidderId);
+    }
+
+    synchronized Auction snapshot() {
+        Auction copy = new Auction();
+        copy.setAuctionId(template.getAuctionId());
+        copy.setItemId(template.getItemId());
+        copy.setItem(template.getItem());
+        copy.setStartTime(template.getStartTime());
+        copy.setEndTime(template.getEndTime());
+        copy.setStartPrice(template.getStartPrice());
+        copy.setReservePrice(template.getReservePrice());
+        copy.setStatus(template.getStatus());
+        copy.setPaymentStatus(template.getPaymentStatus());
+        copy.setCreatedAt(template.getCreatedAt());
+        copy.setCurrentHighestBid(currentHighestBid);
+        copy.setWinningBidderId(winningBidderId);
+        return copy;
+    }
+}
@@ -0,0 +1,131 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.server.logging.Logger;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+class AuctionLifecycleScheduler {
+    private static final Logger log = Logger.getLogger(AuctionLifecycleScheduler.class);
+    private final ScheduledThreadPoolExecutor executor;
+    private final IntConsumer onStart;
+    private final Consumer<List<Integer>> onEndBatch;
+    private final Map<Integer, Deadline> startDeadlines = new ConcurrentHashMap<>();
+    private final Map<Integer, Deadline> endDeadlines = new ConcurrentHashMap<>();
+    private final Queue<Integer> dueEnds = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean endDrainQueued = new AtomicBoolean(false);
+
+    AuctionLifecycleScheduler(IntConsumer onStart, Consumer<List<Integer>> onEndBatch) {
+        this.onStart = onStart;
+        this.onEndBatch = onEndBatch;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "AuctionScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    void scheduleStart(int auctionId, Timestamp startTime) {
+        schedule(startDeadlines, auctionId, startTime, onStart);
+    }
+
+    void scheduleEnd(int auctionId, Timestamp endTime) {
+        schedule(endDeadlines, auctionId, endTime, this::endDue);
+    }
+
+    private void endDue(int auctionId) {
+        dueEnds.add(auctionId);
+        if (endDrainQueued.compareAndSet(false, true) && !executor.isShutdown()) {
+            executor.execute(this::drainDueEnds);
+        }
+    }
+
+    private void drainDueEnds() {
+        endDrainQueued.set(false);
+        List<Integer> batch = new ArrayList<>();
+        Integer auctionId;
+        while ((auctionId = dueEnds.poll()) != null) {
+            batch.add(auctionId);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            onEndBatch.accept(batch);
+        } catch (RuntimeException e) {
+            log.error("Closing {} auctions failed", batch.size(), e);
+        }
+    }
+
+    void cancel(int auctionId) {
+        Deadline start = startDeadlines.remove(auctionId);
+        if (start != null) start.cancel();
+        Deadline end = endDeadlines.remove(auctionId);
+        if (end != null) end.cancel();
+    }
+
+    int getPendingStarts() {
+        return startDeadlines.size();
+    }
+
+    int getPendingEnds() {
+        return endDeadlines.size();
+    }
+
+    private void schedule(Map<Integer, Deadline> deadlines, int auctionId, Timestamp deadline, IntConsumer transition) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        long delayMillis = deadline != null ? Math.max(0, deadline.getTime() - System.currentTimeMillis()) : 0;
+        Deadline entry = new Deadline();
+        Deadline previous = deadlines.put(auctionId, entry);
+        if (previous != null) {
+            previous.cancel();
+        }
+        entry.setFuture(executor.schedule(() -> {
+            deadlines.remove(auctionId, entry);
+            try {
+                transition.accept(auctionId);
+            } catch (RuntimeException e) {
+                log.error("Transition for auction {} failed", auctionId, e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS));
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+        startDeadlines.clear();
+        endDeadlines.clear();
+    }
+
+    private static class Deadline {
+        private ScheduledFuture<?> future;
+        private boolean cancelled;
+
+        synchronized void setFuture(ScheduledFuture<?> future) {
+            this.future = future;
+            if (cancelled) {
+                future.cancel(false);
+            }
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
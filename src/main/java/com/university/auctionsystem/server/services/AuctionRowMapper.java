@@ -0,0 +1,62 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.model.Item;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+final class AuctionRowMapper {
+    private static final String AUCTION_WITH_ITEM_COLUMNS =
+            "a.auction_id, a.item_id, a.start_time, a.end_time, a.start_price, a.reserve_price, a.current_highest_bid, " +
+            "a.winning_bidder_id, a.status, a.payment_status, a.created_at, " +
+            "i.name AS item_name, i.description AS item_desc, i.image_path AS item_image, i.seller_id AS item_seller_id";
+    private static final int AUCTION_WITH_ITEM_COLUMN_COUNT = 15;
+
+    static final AuctionRowMapper AUCTION_WITH_ITEM = new AuctionRowMapper(false);
+    static final AuctionRowMapper AUCTION_WITH_ITEM_AND_WINNER = new AuctionRowMapper(true);
+
+    private final String columns;
+    private final int winnerUsernameIndex;
+
+    private AuctionRowMapper(boolean withWinnerUsername) {
+        this.columns = withWinnerUsername ? AUCTION_WITH_ITEM_COLUMNS + ", w.username AS winner_username" : AUCTION_WITH_ITEM_COLUMNS;
+        this.winnerUsernameIndex = withWinnerUsername ? AUCTION_WITH_ITEM_COLUMN_COUNT + 1 : -1;
+    }
+
+    String columns() {
+        return columns;
+    }
+
+    Auction map(ResultSet rs) throws SQLException {
+        Auction auction = new Auction();
+        auction.setAuctionId(rs.getInt(1));
+        auction.setItemId(rs.getInt(2));
+        auction.setStartTime(rs.getTimestamp(3));
+        auction.setEndTime(rs.getTimestamp(4));
+        auction.setStartPrice(rs.getBigDecimal(5));
+        auction.setReservePrice(rs.getBigDecimal(6));
+        auction.setCurrentHighestBid(rs.getBigDecimal(7));
+        auction.setWinningBidderId(rs.getInt(8));
+        auction.setStatus(Auction.AuctionStatus.valueOf(rs.getString(9)));
+        String paymentStatus = rs.getString(10);
+        auction.setPaymentStatus(paymentStatus != null ? Auction.PaymentStatus.valueOf(paymentStatus) : Auction.PaymentStatus.PENDING);
+        auction.setCreatedAt(rs.getTimestamp(11));
+
+        Item item = new Item();
+        item.setItemId(auction.getItemId());
+        item.setName(rs.getString(12));
+        item.setDescription(rs.getString(13));
+        item.setImagePath(rs.getString(14));
+        item.setSellerId(rs.getInt(15));
+        auction.setItem(item);
+        return auction;
+    }
+
+    String winnerUsername(ResultSet rs) throws SQLException {
+        if (winnerUsernameIndex < 0) {
+            throw new IllegalStateException("Mapper does not select the winner's username.");
+        }
+        return rs.getString(winnerUsernameIndex);
+    }
+}
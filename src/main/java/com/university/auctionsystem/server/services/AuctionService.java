@@ -2,76 +2,117 @@ package com.university.auctionsystem.server.services;
 
 import com.university.auctionsystem.server.ClientHandler;
 import com.university.auctionsystem.server.DatabaseManager;
+import com.university.auctionsystem.server.SessionRegistry;
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.shared.metrics.LatencyHistogram;
 import com.university.auctionsystem.shared.model.Auction;
 import com.university.auctionsystem.shared.model.Bid;
 import com.university.auctionsystem.shared.model.Item;
+import com.university.auctionsystem.shared.model.Page;
+import com.university.auctionsystem.shared.model.PageRequest;
 import com.university.auctionsystem.shared.model.User;
+import com.university.auctionsystem.shared.protocol.CachedPayload;
 import com.university.auctionsystem.shared.protocol.Response;
 import com.university.auctionsystem.shared.protocol.RequestType;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Paths;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 
 public class AuctionService {
+    private static final Logger log = Logger.getLogger(AuctionService.class);
+    private static final int BID_LOCK_STRIPES = 256;
+    private static final int CLOSE_BATCH_SIZE = 500;
+    private static final long CLOSE_RETRY_DELAY_MILLIS = 5_000;
+    private static final long BROADCAST_TICK_MILLIS = Long.getLong("auction.broadcast.tickMs", 50);
+    private static final BidLadder BID_LADDER = new BidLadder(new BidIncrementTable(System.getProperty("auction.bid.increments", BidIncrementTable.DEFAULT_TABLE)));
+    private static final boolean JOURNAL_ENABLED = Boolean.parseBoolean(System.getProperty("auction.journal.enabled", "true"));
+    private static final String JOURNAL_DIR = System.getProperty("auction.journal.dir", "bid-journal");
+    private static final int JOURNAL_SEGMENT_BYTES = Integer.getInteger("auction.journal.segmentBytes", 64 * 1024 * 1024);
+    private static final boolean JOURNAL_FSYNC = Boolean.parseBoolean(System.getProperty("auction.journal.fsync", "true"));
     private DatabaseManager dbManager;
     private ItemService itemService;
     private UserService userService;
-    private ConcurrentHashMap<Integer, List<ClientHandler>> auctionSubscribers = new ConcurrentHashMap<>();
-    private Timer auctionTimer;
-    private final Set<ClientHandler> activeClientHandlers;
-
-
-    public AuctionService(DatabaseManager dbManager, ItemService itemService,Set<ClientHandler> activeClientHandlers) {
+    private final SubscriptionRegistry subscriptions = new SubscriptionRegistry();
+    private final AuctionLifecycleScheduler lifecycleScheduler;
+    private final UpdateConflator updateConflator;
+    private SearchService searchService;
+    private final SessionRegistry sessions;
+    private final Lock[] bidLocks = new Lock[BID_LOCK_STRIPES];
+    private final Map<Integer, ActiveAuctionState> activeAuctionBook = new ConcurrentHashMap<>();
+    private final ActiveAuctionListing activeListing = new ActiveAuctionListing();
+    private final BidWriteBehind bidWriteBehind;
+    private final BidJournal bidJournal;
+
+    public AuctionService(DatabaseManager dbManager, ItemService itemService, UserService userService, SessionRegistry sessions) {
         this.dbManager = dbManager;
         this.itemService = itemService;
-        this.activeClientHandlers = activeClientHandlers;
-        this.auctionTimer = new Timer("AuctionScheduler", true);
-        this.userService = new UserService(dbManager);
-        scheduleAuctionStatusChecks();
+        this.sessions = sessions;
+        this.userService = userService;
+        for (int i = 0; i < BID_LOCK_STRIPES; i++) {
+            bidLocks[i] = new ReentrantLock();
+        }
+        this.bidWriteBehind = new BidWriteBehind(dbManager, this::onBidPersistFailed, this::onCeilingPersistFailed);
+        this.updateConflator = new UpdateConflator(BROADCAST_TICK_MILLIS, this::publishAuctionUpdate, this::awaitJournalDurable);
+        this.lifecycleScheduler = new AuctionLifecycleScheduler(this::activateAuction, this::closeDueAuctions);
+        boolean bookLoaded = refreshActiveAuctionBook();
+        this.bidJournal = JOURNAL_ENABLED ? openBidJournal(bookLoaded) : null;
+        loadLifecycleDeadlines();
+    }
+
+    public void setSearchService(SearchService searchService) {
+        this.searchService = searchService;
+        searchService.setLiveStateOverlay(this::overlayLiveState);
+    }
+
+    private void indexAuction(Auction auction) {
+        if (searchService != null) searchService.indexAuction(auction);
     }
 
     public void addSubscriber(int auctionId, ClientHandler handler) {
-        auctionSubscribers.computeIfAbsent(auctionId, k -> new ArrayList<>()).add(handler);
+        subscriptions.subscribe(auctionId, handler);
     }
 
     public void removeSubscriber(int auctionId, ClientHandler handler) {
-        List<ClientHandler> subscribers = auctionSubscribers.get(auctionId);
-        if (subscribers != null) {
-            subscribers.remove(handler);
-            if (subscribers.isEmpty()) {
-                auctionSubscribers.remove(auctionId);
-            }
-        }
+        subscriptions.unsubscribe(auctionId, handler);
     }
 
     public void unsubscribeClientFromAllAuctions(ClientHandler handlerToRemove) {
-        auctionSubscribers.forEach((auctionId, handlers) -> {
-            Iterator<ClientHandler> iterator = handlers.iterator();
-            while (iterator.hasNext()) {
-                ClientHandler handler = iterator.next();
-                if (handler.equals(handlerToRemove)) {
-                    iterator.remove();
-                }
-            }
-            if (handlers.isEmpty()) {
-                auctionSubscribers.remove(auctionId);
-            }
-        });
-        System.out.println("Client unsubscribed from all auction updates.");
+        int removed = subscriptions.unsubscribeAll(handlerToRemove);
+        log.debug("{} unsubscribed from {} auctions.", handlerToRemove.describe(), removed);
     }
 
 
 
     private void broadcastAuctionUpdate(Auction auction) {
-        System.out.println("Broadcasting update for auction ID: " + auction.getAuctionId());
-        List<ClientHandler> subscribers = auctionSubscribers.get(auction.getAuctionId());
-        if (subscribers != null) {
-            for (ClientHandler handler : subscribers) {
-                handler.sendAuctionUpdate(auction);
-            }
+        updateConflator.submit(auction);
+    }
+
+    private void broadcastAuctionUpdate(Auction auction, long journalSequence) {
+        updateConflator.submit(auction, journalSequence);
+    }
+
+    private void awaitJournalDurable(long journalSequence) {
+        if (bidJournal != null) {
+            bidJournal.awaitDurable(journalSequence);
+        }
+    }
+
+    private void publishAuctionUpdate(Auction auction) {
+        log.debug("Broadcasting update for auction {}", auction.getAuctionId());
+        for (ClientHandler handler : subscriptions.subscribersOf(auction.getAuctionId())) {
+            handler.sendAuctionUpdate(auction);
+        }
+        if (auction.getStatus() == Auction.AuctionStatus.CANCELLED) {
+            subscriptions.removeAuction(auction.getAuctionId());
         }
     }
 
@@ -79,23 +120,24 @@ public class AuctionService {
     public Auction createAuction(Auction auction, int sellerId) {
         Item itemForAuction = itemService.getItemById(auction.getItemId());
         if (itemForAuction == null) {
-            System.err.println("AuctionService: Item ID " + auction.getItemId() + " not found for auction creation.");
+            log.warn("Item {} not found for auction creation.", auction.getItemId());
             return null;
         }
         if (itemForAuction.getSellerId() != sellerId) {
-            System.err.println("AuctionService: Item ID " + auction.getItemId() + " does not belong to seller ID " + sellerId);
+            log.warn("Item {} does not belong to seller {}", auction.getItemId(), sellerId);
             return null;
         }
 
 
         if (isItemInActiveOrUpcomingAuction(auction.getItemId())) {
-            System.err.println("AuctionService: Item ID " + auction.getItemId() + " is already in an active or upcoming auction.");
+            log.warn("Item {} is already in an active or upcoming auction.", auction.getItemId());
             return null;
         }
 
 
         String sql = "INSERT INTO auctions (item_id, start_time, end_time, start_price, reserve_price, current_highest_bid, status) VALUES (?, ?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setInt(1, auction.getItemId());
             pstmt.setTimestamp(2, auction.getStartTime());
             pstmt.setTimestamp(3, auction.getEndTime());
@@ -106,7 +148,7 @@ public class AuctionService {
 
             int affectedRows = pstmt.executeUpdate();
             if (affectedRows == 0) {
-                System.err.println("AuctionService: Creating auction failed, no rows affected.");
+                log.error("Creating auction failed, no rows affected.");
                 return null;
             }
 
@@ -116,19 +158,20 @@ public class AuctionService {
                     auction.setStatus(Auction.AuctionStatus.UPCOMING);
                     auction.setCurrentHighestBid(auction.getStartPrice());
                     auction.setItem(itemForAuction);
-                    System.out.println("AuctionService: Auction created successfully ID " + auction.getAuctionId() + " for item ID " + auction.getItemId());
+                    lifecycleScheduler.scheduleStart(auction.getAuctionId(), auction.getStartTime());
+                    indexAuction(auction);
+                    log.info("Auction {} created for item {}", auction.getAuctionId(), auction.getItemId());
                     return auction;
                 } else {
-                    System.err.println("AuctionService: Creating auction failed, no ID obtained.");
+                    log.error("Creating auction failed, no ID obtained.");
                     return null;
                 }
             }
         } catch (SQLException e) {
             if (e.getErrorCode() == 1062 || e.getMessage().toLowerCase().contains("duplicate entry")) {
-                System.err.println("AuctionService: Item ID " + auction.getItemId() + " is likely already in an auction (unique constraint). " + e.getMessage());
+                log.warn("Item {} is likely already in an auction (unique constraint). {}", auction.getItemId(), e.getMessage());
             } else {
-                System.err.println("AuctionService SQL Error creating auction: " + e.getMessage());
-                e.printStackTrace();
+                log.error("SQL error creating auction", e);
             }
             return null;
         }
@@ -136,15 +179,15 @@ public class AuctionService {
 
     public boolean isItemInActiveOrUpcomingAuction(int itemId) {
         String sql = "SELECT COUNT(*) FROM auctions WHERE item_id = ? AND (status = 'ACTIVE' OR status = 'UPCOMING')";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, itemId);
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) {
                 return rs.getInt(1) > 0;
             }
         } catch (SQLException e) {
-            System.err.println("AuctionService SQL Error checking if item is in auction: " + e.getMessage());
-            e.printStackTrace();
+            log.error("SQL error checking if item {} is in an auction", itemId, e);
         }
         return false;
     }
@@ -153,115 +196,198 @@ public class AuctionService {
         Auction auction = getAuctionDetails(auctionId);
 
         if (auction == null) {
-            System.err.println("AuctionService: Auction " + auctionId + " not found for cancellation.");
+            log.warn("Auction {} not found for cancellation.", auctionId);
             return false;
         }
         if (auction.getItem() == null || auction.getItem().getSellerId() != sellerId) {
-            System.err.println("AuctionService: Auction " + auctionId + " does not belong to seller " + sellerId);
+            log.warn("Auction {} does not belong to seller {}", auctionId, sellerId);
             return false;
         }
         if (auction.getStatus() != Auction.AuctionStatus.UPCOMING) {
-            System.err.println("AuctionService: Auction " + auctionId + " is not UPCOMING. Current status: " + auction.getStatus());
+            log.warn("Auction {} is not UPCOMING. Current status: {}", auctionId, auction.getStatus());
             return false;
         }
 
         String sql = "UPDATE auctions SET status = ? WHERE auction_id = ? AND status = 'UPCOMING'";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, Auction.AuctionStatus.CANCELLED.name());
             pstmt.setInt(2, auctionId);
 
             int affectedRows = pstmt.executeUpdate();
             if (affectedRows > 0) {
-                System.out.println("AuctionService: Auction " + auctionId + " cancelled successfully by seller " + sellerId);
+                log.info("Auction {} cancelled by seller {}", auctionId, sellerId);
+                lifecycleScheduler.cancel(auctionId);
                 auction.setStatus(Auction.AuctionStatus.CANCELLED);
+                indexAuction(auction);
                 broadcastAuctionUpdate(auction);
-                auctionSubscribers.remove(auctionId);
                 return true;
             } else {
-                System.err.println("AuctionService: Auction " + auctionId + " cancellation failed (no rows affected or status changed concurrently).");
+                log.warn("Auction {} cancellation failed (no rows affected or status changed concurrently).", auctionId);
                 return false;
             }
         } catch (SQLException e) {
-            System.err.println("AuctionService SQL Error cancelling auction: " + e.getMessage());
-            e.printStackTrace();
+            log.error("SQL error cancelling auction {}", auctionId, e);
             return false;
         }
     }
 
     public List<Auction> getActiveAuctions() {
-        List<Auction> auctions = new ArrayList<>();
+        return activeListing.getAuctions();
+    }
+
+    public CachedPayload getActiveAuctionsSnapshot() {
+        return activeListing.snapshot();
+    }
 
-        String sql = "SELECT a.*, i.name as item_name, i.description as item_desc, i.image_path as item_image " +
+    public Page<Auction> getActiveAuctionsPage(PageRequest pageRequest) {
+        int limit = PageCursor.limitOf(pageRequest);
+        String[] after = PageCursor.decode(pageRequest, "active", 2);
+        String sql = "SELECT " + AuctionRowMapper.AUCTION_WITH_ITEM.columns() + " " +
                 "FROM auctions a JOIN items i ON a.item_id = i.item_id " +
-                "WHERE a.status = 'ACTIVE' ORDER BY a.end_time ASC";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+                "WHERE a.status = 'ACTIVE'" +
+                (after != null ? " AND (a.end_time > ? OR (a.end_time = ? AND a.auction_id > ?))" : "") +
+                " ORDER BY a.end_time ASC, a.auction_id ASC LIMIT ?";
+        List<Auction> auctions = new ArrayList<>();
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (after != null) {
+                Timestamp endTime = new Timestamp(Long.parseLong(after[0]));
+                pstmt.setTimestamp(index++, endTime);
+                pstmt.setTimestamp(index++, endTime);
+                pstmt.setInt(index++, Integer.parseInt(after[1]));
+            }
+            pstmt.setInt(index, limit + 1);
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
-                auctions.add(mapResultSetToAuctionWithItem(rs));
+                auctions.add(overlayLiveState(AuctionRowMapper.AUCTION_WITH_ITEM.map(rs)));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load active auctions page", e);
         }
-        return auctions;
+        String nextCursor = null;
+        if (auctions.size() > limit) {
+            auctions.remove(limit);
+            Auction last = auctions.get(limit - 1);
+            nextCursor = PageCursor.encode("active", last.getEndTime().getTime(), last.getAuctionId());
+        }
+        return new Page<>(auctions, nextCursor);
     }
 
+    public Auction getAuctionDetails(int auctionId) {
+        Auction auction = loadAuctionFromDatabase(auctionId);
+        return auction != null ? overlayLiveState(auction) : null;
+    }
 
+    private Auction overlayLiveState(Auction auction) {
+        ActiveAuctionState state = activeAuctionBook.get(auction.getAuctionId());
+        if (state != null) {
+            state.applyTo(auction);
+        }
+        return auction;
+    }
 
-    public Auction getAuctionDetails(int auctionId) {
-        String sql = "SELECT a.*, i.name as item_name, i.description as item_desc, i.image_path as item_image, i.seller_id as item_seller_id " +
+    private boolean refreshActiveAuctionBook() {
+        String sql = "SELECT " + AuctionRowMapper.AUCTION_WITH_ITEM.columns() + " " +
                 "FROM auctions a JOIN items i ON a.item_id = i.item_id " +
-                "WHERE a.auction_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
-            pstmt.setInt(1, auctionId);
+                "WHERE a.status = 'ACTIVE'";
+        String ceilingSql = "SELECT pc.auction_id, pc.bidder_id, pc.max_amount FROM proxy_ceilings pc " +
+                "JOIN auctions a ON a.auction_id = pc.auction_id WHERE a.status = 'ACTIVE'";
+        int loaded = 0;
+        int ceilings = 0;
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             PreparedStatement pstmtCeilings = conn.prepareStatement(ceilingSql)) {
             ResultSet rs = pstmt.executeQuery();
-            if (rs.next()) {
-                return mapResultSetToAuctionWithItem(rs);
+            while (rs.next()) {
+                Auction auction = AuctionRowMapper.AUCTION_WITH_ITEM.map(rs);
+                ActiveAuctionState state = new ActiveAuctionState(auction);
+                if (activeAuctionBook.putIfAbsent(auction.getAuctionId(), state) == null) {
+                    activeListing.put(state.snapshot());
+                    loaded++;
+                }
+            }
+            ResultSet ceilingRows = pstmtCeilings.executeQuery();
+            while (ceilingRows.next()) {
+                ActiveAuctionState state = activeAuctionBook.get(ceilingRows.getInt("auction_id"));
+                int bidderId = ceilingRows.getInt("bidder_id");
+                BigDecimal maxAmount = ceilingRows.getBigDecimal("max_amount");
+                if (state != null && state.canRaiseProxy(bidderId, maxAmount)) {
+                    state.raiseProxy(bidderId, maxAmount);
+                    ceilings++;
+                }
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load active auctions into the order book: {}", e.getMessage());
+            return false;
         }
-        return null;
+        if (loaded > 0) {
+            log.info("Loaded {} active auctions into the order book ({} total, {} automatic bid ceilings).", loaded, activeAuctionBook.size(), ceilings);
+        }
+        return true;
     }
 
-    private Auction mapResultSetToAuctionWithItem(ResultSet rs) throws SQLException {
-        Auction auction = new Auction();
-        auction.setAuctionId(rs.getInt("auction_id"));
-        auction.setItemId(rs.getInt("item_id"));
-        auction.setStartTime(rs.getTimestamp("start_time"));
-        auction.setEndTime(rs.getTimestamp("end_time"));
-        auction.setStartPrice(rs.getBigDecimal("start_price"));
-        auction.setReservePrice(rs.getBigDecimal("reserve_price"));
-        auction.setCurrentHighestBid(rs.getBigDecimal("current_highest_bid"));
-        auction.setWinningBidderId(rs.getInt("winning_bidder_id"));
-        auction.setStatus(Auction.AuctionStatus.valueOf(rs.getString("status")));
-        if (hasColumn(rs, "payment_status")) {
-            String paymentStatusStr = rs.getString("payment_status");
-            if (paymentStatusStr != null) {
-                auction.setPaymentStatus(Auction.PaymentStatus.valueOf(paymentStatusStr));
-            } else {
-                auction.setPaymentStatus(Auction.PaymentStatus.PENDING);
-            }
-        } else {
-            auction.setPaymentStatus(Auction.PaymentStatus.PENDING);
+    private BidJournal openBidJournal(boolean bookLoaded) {
+        BidJournal journal;
+        List<CompletableFuture<Boolean>> reprojected = new ArrayList<>();
+        int replayed;
+        try {
+            journal = new BidJournal(Paths.get(JOURNAL_DIR), JOURNAL_SEGMENT_BYTES, JOURNAL_FSYNC);
+        } catch (IOException e) {
+            log.error("Could not open bid journal in {}, accepting bids without it: {}", JOURNAL_DIR, e.getMessage());
+            return null;
         }
-        auction.setCreatedAt(rs.getTimestamp("created_at"));
-        auction.setStatus(Auction.AuctionStatus.valueOf(rs.getString("status")));
-
-
-        Item item = new Item();
-        item.setItemId(rs.getInt("item_id"));
-        item.setName(rs.getString("item_name"));
-        item.setDescription(rs.getString("item_desc"));
-        item.setImagePath(rs.getString("item_image"));
-
-        if (hasColumn(rs, "item_seller_id")) {
-            item.setSellerId(rs.getInt("item_seller_id"));
+        try {
+            replayed = journal.replay((bid, sequence) -> {
+                ActiveAuctionState state = activeAuctionBook.get(bid.getAuctionId());
+                if (state != null && bid.getBidAmount().compareTo(state.getCurrentHighestBid()) > 0) {
+                    state.accept(bid);
+                    activeListing.put(state.snapshot());
+                    reprojected.add(bidWriteBehind.submit(bid).handle((persisted, error) -> error == null || journal.tombstone(sequence)));
+                }
+            }, (ceiling, sequence) -> {
+                ActiveAuctionState state = activeAuctionBook.get(ceiling.getAuctionId());
+                if (state != null && state.canRaiseProxy(ceiling.getBidderId(), ceiling.getBidAmount())) {
+                    state.raiseProxy(ceiling.getBidderId(), ceiling.getBidAmount());
+                    reprojected.add(bidWriteBehind.submitCeiling(ceiling).handle((persisted, error) -> error == null || journal.tombstone(sequence)));
+                }
+            });
+        } catch (IOException e) {
+            log.error("Could not replay bid journal in {}, accepting bids without it: {}", JOURNAL_DIR, e.getMessage());
+            return null;
         }
-        if (hasColumn(rs, "item_category")) {
-            item.setCategory(rs.getString("item_category"));
+        if (bookLoaded) {
+            CompletableFuture.allOf(reprojected.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+                if (reprojected.stream().allMatch(CompletableFuture::join)) {
+                    journal.markReplayProjected();
+                } else {
+                    log.warn("Not all replayed bids could be settled, keeping the journal for the next start.");
+                }
+            });
         }
-        auction.setItem(item);
-        return auction;
+        journal.start();
+        if (replayed > 0) {
+            log.info("Replayed {} journaled bids, {} of them not yet in the database.", replayed, reprojected.size());
+        }
+        return journal;
+    }
+
+    private Auction loadAuctionFromDatabase(int auctionId) {
+        String sql = "SELECT " + AuctionRowMapper.AUCTION_WITH_ITEM.columns() + " " +
+                "FROM auctions a JOIN items i ON a.item_id = i.item_id " +
+                "WHERE a.auction_id = ?";
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, auctionId);
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return AuctionRowMapper.AUCTION_WITH_ITEM.map(rs);
+            }
+        } catch (SQLException e) {
+            log.error("Could not load auction {} from the database", auctionId, e);
+        }
+        return null;
     }
 
     public synchronized boolean processPayment(int auctionId, int buyerId) {
@@ -269,29 +395,31 @@ public class AuctionService {
         if (auction == null || auction.getStatus() != Auction.AuctionStatus.ENDED ||
                 auction.getWinningBidderId() != buyerId ||
                 auction.getPaymentStatus() == Auction.PaymentStatus.PAID) {
-            System.err.println("AuctionService: Payment processing failed. Auction ID: " + auctionId +
-                    ", Buyer ID: " + buyerId + ", Auction Status: " + (auction != null ? auction.getStatus() : "N/A") +
-                    ", Winner: " + (auction != null ? auction.getWinningBidderId() : "N/A") +
-                    ", Payment Status: " + (auction != null ? auction.getPaymentStatus() : "N/A"));
+            log.warn("Payment processing failed. Auction ID: {}, Buyer ID: {}, Auction Status: {}, Winner: {}, Payment Status: {}",
+                    auctionId, buyerId, auction != null ? auction.getStatus() : "N/A",
+                    auction != null ? auction.getWinningBidderId() : "N/A",
+                    auction != null ? auction.getPaymentStatus() : "N/A");
             return false;
         }
         String sql = "UPDATE auctions SET payment_status = ? WHERE auction_id = ? AND winning_bidder_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, Auction.PaymentStatus.PAID.name());
             pstmt.setInt(2, auctionId);
             pstmt.setInt(3, buyerId);
             int affectedRows = pstmt.executeUpdate();
             if (affectedRows > 0) {
-                System.out.println("AuctionService: Payment successfully processed for auction ID: " + auctionId);
+                log.info("Payment processed for auction {}", auctionId);
                 auction.setPaymentStatus(Auction.PaymentStatus.PAID);
+                indexAuction(auction);
                 broadcastAuctionUpdate(auction);
                 return true;
             } else {
-                System.err.println("AuctionService: Payment update failed for auction ID: " + auctionId + ", no rows affected or conditions not met.");
+                log.warn("Payment update failed for auction {}, no rows affected or conditions not met.", auctionId);
                 return false;
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not record payment for auction {}", auctionId, e);
             return false;
         }
     }
@@ -299,147 +427,246 @@ public class AuctionService {
     public boolean deleteAuctionAsAdmin(int auctionId) {
         Auction auction = getAuctionDetails(auctionId);
         if (auction == null) {
-            System.err.println("AuctionService: Cannot delete. Auction ID " + auctionId + " not found.");
+            log.warn("Cannot delete. Auction {} not found.", auctionId);
             return false;
         }
+        lifecycleScheduler.cancel(auctionId);
+        if (searchService != null) searchService.removeAuction(auctionId);
+        Lock bidLock = bidLockFor(auctionId);
+        bidLock.lock();
+        try {
+            activeAuctionBook.remove(auctionId);
+            activeListing.remove(auctionId);
+        } finally {
+            bidLock.unlock();
+        }
+        bidWriteBehind.awaitPersisted(auctionId);
         String deleteBidsSql = "DELETE FROM bids WHERE auction_id = ?";
-        try (PreparedStatement pstmtBids = dbManager.getPreparedStatement(deleteBidsSql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmtBids = conn.prepareStatement(deleteBidsSql)) {
             pstmtBids.setInt(1, auctionId);
             int bidsDeleted = pstmtBids.executeUpdate();
-            System.out.println("AuctionService: Deleted " + bidsDeleted + " bids for auction ID " + auctionId);
+            log.info("Deleted {} bids for auction {}", bidsDeleted, auctionId);
         } catch (SQLException e) {
-            System.err.println("AuctionService: Error deleting bids for auction " + auctionId + ": " + e.getMessage());
+            log.error("Error deleting bids for auction {}: {}", auctionId, e.getMessage());
+        }
+        String deleteCeilingSql = "DELETE FROM proxy_ceilings WHERE auction_id = ?";
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmtCeiling = conn.prepareStatement(deleteCeilingSql)) {
+            pstmtCeiling.setInt(1, auctionId);
+            pstmtCeiling.executeUpdate();
+        } catch (SQLException e) {
+            log.error("Error deleting automatic bid ceiling for auction {}: {}", auctionId, e.getMessage());
         }
         String deleteMessagesSql = "DELETE FROM messages WHERE auction_id = ?";
-        try (PreparedStatement pstmtMessages = dbManager.getPreparedStatement(deleteMessagesSql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmtMessages = conn.prepareStatement(deleteMessagesSql)) {
             pstmtMessages.setInt(1, auctionId);
             int messagesDeleted = pstmtMessages.executeUpdate();
-            System.out.println("AuctionService: Deleted " + messagesDeleted + " messages for auction ID " + auctionId);
+            log.info("Deleted {} messages for auction {}", messagesDeleted, auctionId);
         } catch (SQLException e) {
-            System.err.println("AuctionService: Error deleting messages for auction " + auctionId + ": " + e.getMessage());
+            log.error("Error deleting messages for auction {}: {}", auctionId, e.getMessage());
         }
         String deleteAuctionSql = "DELETE FROM auctions WHERE auction_id = ?";
-        try (PreparedStatement pstmtAuction = dbManager.getPreparedStatement(deleteAuctionSql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmtAuction = conn.prepareStatement(deleteAuctionSql)) {
             pstmtAuction.setInt(1, auctionId);
             int affectedRows = pstmtAuction.executeUpdate();
             if (affectedRows > 0) {
-                System.out.println("AuctionService: Auction ID " + auctionId + " deleted successfully by admin.");
-                List<ClientHandler> subscribers = auctionSubscribers.remove(auctionId);
-                if (subscribers != null) {
-                    System.out.println("AuctionService: Removed " + subscribers.size() + " subscribers for deleted auction " + auctionId);
+                log.info("Auction {} deleted by admin.", auctionId);
+                int removedSubscribers = subscriptions.removeAuction(auctionId);
+                if (removedSubscribers > 0) {
+                    log.info("Removed {} subscribers for deleted auction {}", removedSubscribers, auctionId);
                 }
                 return true;
             } else {
-                System.err.println("AuctionService: Deleting auction ID " + auctionId + " failed, no rows affected.");
+                log.warn("Deleting auction {} failed, no rows affected.", auctionId);
                 return false;
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not delete auction {}", auctionId, e);
             return false;
         }
     }
 
-    private boolean hasColumn(ResultSet rs, String columnName) throws SQLException {
-        java.sql.ResultSetMetaData rsmd = rs.getMetaData();
-        int columns = rsmd.getColumnCount();
-        for (int x = 1; x <= columns; x++) {
-            if (columnName.equalsIgnoreCase(rsmd.getColumnName(x)) || columnName.equalsIgnoreCase(rsmd.getColumnLabel(x))) {
-                return true;
-            }
-        }
-        return false;
+    private Lock bidLockFor(int auctionId) {
+        return bidLocks[Math.floorMod(auctionId, BID_LOCK_STRIPES)];
     }
 
-    public synchronized Bid placeBid(Bid bid) {
-        Auction auction = getAuctionDetails(bid.getAuctionId());
-        if (auction == null || auction.getStatus() != Auction.AuctionStatus.ACTIVE) {
-            System.out.println("Bid rejected: Auction " + bid.getAuctionId() + " not active or not found.");
-            return null;
-        }
-        if (auction.getItem() == null) {
-            System.out.println("Bid rejected: Auction " + bid.getAuctionId() + " item details missing.");
-            return null;
+    public Auction placeBid(Bid bid) {
+        Auction resolved = resolveBid(bid, false);
+        if (resolved != null && !lostTieToProxy(bid, resolved)) {
+            User bidder = userService.getUserById(bid.getBidderId());
+            if (bidder != null) bid.setBidderUsername(bidder.getUsername());
         }
-        if (bid.getBidderId() == auction.getItem().getSellerId()) {
-            System.out.println("Bid rejected: Seller cannot bid on their own item. Auction: " + bid.getAuctionId());
-            return null;
-        }
-        BigDecimal currentHighest = auction.getCurrentHighestBid() != null ? auction.getCurrentHighestBid() : auction.getStartPrice();
-        if (bid.getBidAmount().compareTo(currentHighest) <= 0) {
-            System.out.println("Bid rejected: Bid amount " + bid.getBidAmount() + " not higher than current " + currentHighest + " for auction " + bid.getAuctionId());
-            return null;
-        }
-
-        int previousHighestBidderId = auction.getWinningBidderId();
+        return resolved;
+    }
 
+    public static boolean lostTieToProxy(Bid bid, Auction resolved) {
+        // A direct bid equal to the leader's ceiling is never recorded: the earlier automatic bid takes the price.
+        return resolved.getWinningBidderId() != bid.getBidderId() && resolved.getCurrentHighestBid().compareTo(bid.getBidAmount()) == 0;
+    }
 
-        String sqlInsertBid = "INSERT INTO bids (auction_id, bidder_id, bid_amount) VALUES (?, ?, ?)";
-        String sqlUpdateAuction = "UPDATE auctions SET current_highest_bid = ?, winning_bidder_id = ? WHERE auction_id = ?";
+    public Auction placeProxyBid(Bid maxBid) {
+        return resolveBid(maxBid, true);
+    }
 
-        try (PreparedStatement pstmtInsert = dbManager.getPreparedStatement(sqlInsertBid, Statement.RETURN_GENERATED_KEYS);
-             PreparedStatement pstmtUpdate = dbManager.getPreparedStatement(sqlUpdateAuction)) {
+    private Auction resolveBid(Bid bid, boolean proxy) {
+        Auction auctionSnapshot;
+        int bidderId = bid.getBidderId();
+        int previousHighestBidderId;
+        int recorded = 0;
+        long journalSequence = 0;
+        Lock bidLock = bidLockFor(bid.getAuctionId());
+        bidLock.lock();
+        try {
+            ActiveAuctionState state = activeAuctionBook.get(bid.getAuctionId());
+            if (state == null) {
+                log.debug("Bid rejected: Auction {} not active or not found.", bid.getAuctionId());
+                return null;
+            }
+            if (System.currentTimeMillis() >= state.getEndTimeMillis()) {
+                log.debug("Bid rejected: Auction {} has reached its end time.", bid.getAuctionId());
+                return null;
+            }
+            if (bidderId == state.getSellerId()) {
+                log.debug("Bid rejected: Seller cannot bid on their own item. Auction: {}", bid.getAuctionId());
+                return null;
+            }
+            BigDecimal currentHighest = state.getCurrentHighestBid();
+            BigDecimal amount = bid.getBidAmount();
+            if (amount == null || amount.compareTo(currentHighest) <= 0) {
+                log.debug("Bid rejected: Bid amount {} not higher than current {} for auction {}", amount, currentHighest, bid.getAuctionId());
+                return null;
+            }
 
-            dbManager.getConnection().setAutoCommit(false);
+            previousHighestBidderId = state.getWinningBidderId();
+            bid.setBidTime(new Timestamp(System.currentTimeMillis()));
+            List<Bid> bids = BID_LADDER.resolve(bid, proxy, previousHighestBidderId, currentHighest, state.getLeaderCeiling());
 
-            pstmtInsert.setInt(1, bid.getAuctionId());
-            pstmtInsert.setInt(2, bid.getBidderId());
-            pstmtInsert.setBigDecimal(3, bid.getBidAmount());
-            int affectedRows = pstmtInsert.executeUpdate();
-            if (affectedRows == 0) {
-                dbManager.getConnection().rollback();
+            for (Bid accepted : bids) {
+                long sequence = recordBid(accepted);
+                if (sequence < 0) {
+                    break;
+                }
+                journalSequence = sequence;
+                state.accept(accepted);
+                recorded++;
+            }
+            if (recorded == 0 && !bids.isEmpty()) {
                 return null;
             }
-            try (ResultSet generatedKeys = pstmtInsert.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    bid.setBidId(generatedKeys.getInt(1));
-                    User bidder = userService.getUserById(bid.getBidderId());
-                    if (bidder != null) bid.setBidderUsername(bidder.getUsername());
-                } else {
-                    dbManager.getConnection().rollback();
+            if (proxy && state.canRaiseProxy(bidderId, amount)) {
+                // The ceiling must survive a restart, so it is journaled like a bid before the bidder is told it is set.
+                long sequence = recordCeiling(BidLadder.automaticBid(bid, bidderId, amount));
+                if (sequence >= 0) {
+                    state.raiseProxy(bidderId, amount);
+                    journalSequence = Math.max(journalSequence, sequence);
+                } else if (recorded == 0) {
                     return null;
                 }
             }
+            auctionSnapshot = state.snapshot();
+            if (recorded > 0) {
+                activeListing.put(auctionSnapshot);
+                broadcastAuctionUpdate(auctionSnapshot, journalSequence);
+            }
+        } finally {
+            bidLock.unlock();
+        }
+        awaitJournalDurable(journalSequence);
+        if (recorded == 0) {
+            return auctionSnapshot;
+        }
 
-            pstmtUpdate.setBigDecimal(1, bid.getBidAmount());
-            pstmtUpdate.setInt(2, bid.getBidderId());
-            pstmtUpdate.setInt(3, bid.getAuctionId());
-            pstmtUpdate.executeUpdate();
+        int winningBidderId = auctionSnapshot.getWinningBidderId();
+        if (previousHighestBidderId > 0 && previousHighestBidderId != winningBidderId) {
+            sendOutbidNotification(previousHighestBidderId, auctionSnapshot);
+        } else if (bidderId != winningBidderId) {
+            sendOutbidNotification(bidderId, auctionSnapshot);
+        }
 
-            dbManager.getConnection().commit();
-            auction.setCurrentHighestBid(bid.getBidAmount());
-            auction.setWinningBidderId(bid.getBidderId());
+        return auctionSnapshot;
+    }
 
-            broadcastAuctionUpdate(auction);
-            if (previousHighestBidderId > 0 && previousHighestBidderId != bid.getBidderId()) {
-                sendOutbidNotification(previousHighestBidderId, auction);
-            }
+    private long recordBid(Bid bid) {
+        if (bidJournal == null) {
+            bidWriteBehind.submit(bid);
+            return 0;
+        }
+        try {
+            return bidJournal.append(bid, bidWriteBehind::submit);
+        } catch (IOException e) {
+            log.error("Bid rejected: could not journal bid on auction {}", bid.getAuctionId(), e);
+            return -1;
+        }
+    }
 
-            return bid;
+    private long recordCeiling(Bid ceiling) {
+        if (bidJournal == null) {
+            bidWriteBehind.submitCeiling(ceiling);
+            return 0;
+        }
+        try {
+            return bidJournal.appendCeiling(ceiling, bidWriteBehind::submitCeiling);
+        } catch (IOException e) {
+            log.error("Automatic bid not set: could not journal ceiling on auction {}", ceiling.getAuctionId(), e);
+            return -1;
+        }
+    }
 
-        } catch (SQLException e) {
-            e.printStackTrace();
-            try {
-                dbManager.getConnection().rollback();
-            } catch (SQLException ex) {
-                ex.printStackTrace();
+    private void onCeilingPersistFailed(Bid ceiling) {
+        Lock bidLock = bidLockFor(ceiling.getAuctionId());
+        bidLock.lock();
+        try {
+            ActiveAuctionState state = activeAuctionBook.get(ceiling.getAuctionId());
+            if (state != null) {
+                state.dropProxy(ceiling.getBidderId(), ceiling.getBidAmount());
             }
-            return null;
         } finally {
-            try {
-                dbManager.getConnection().setAutoCommit(true);
-            } catch (SQLException ex) {
-                ex.printStackTrace();
+            bidLock.unlock();
+        }
+        log.error("Automatic bid ceiling of {} on auction {} could not be persisted and was dropped.", ceiling.getBidAmount(), ceiling.getAuctionId());
+    }
+
+    private void onBidPersistFailed(Bid bid) {
+        Lock bidLock = bidLockFor(bid.getAuctionId());
+        bidLock.lock();
+        try {
+            ActiveAuctionState state = activeAuctionBook.get(bid.getAuctionId());
+            if (state == null || !state.isLeadingBid(bid)) {
+                return;
             }
+            Auction persisted = loadAuctionFromDatabase(bid.getAuctionId());
+            if (persisted != null) {
+                state.reset(persisted.getCurrentHighestBid(), persisted.getWinningBidderId());
+                Auction resynced = state.snapshot();
+                activeListing.put(resynced);
+                broadcastAuctionUpdate(resynced);
+                log.error("Bid of {} on auction {} could not be persisted. Order book reset to {}", bid.getBidAmount(), bid.getAuctionId(), persisted.getCurrentHighestBid());
+            }
+        } finally {
+            bidLock.unlock();
+        }
+    }
+
+    public void flushPendingBids() {
+        bidWriteBehind.shutdown(10, TimeUnit.SECONDS);
+        if (bidJournal != null) {
+            bidJournal.close();
         }
     }
 
+    void awaitBidPersisted(int auctionId) {
+        bidWriteBehind.awaitPersisted(auctionId);
+    }
+
     private void sendOutbidNotification(int outbidUserId, Auction auction) {
-        for (ClientHandler handler : activeClientHandlers) {
-            if (handler.getCurrentUser() != null && handler.getCurrentUser().getUserId() == outbidUserId) {
-                Response outbidResponse = new Response(true, "You have been outbid on " + auction.getItem().getName(), auction, RequestType.OUTBID_NOTIFICATION);
-                handler.sendNotification(outbidResponse);
-                break;
-            }
+        Collection<ClientHandler> outbidSessions = sessions.sessionsFor(outbidUserId);
+        if (outbidSessions.isEmpty()) return;
+        Response outbidResponse = new Response(true, "You have been outbid on " + auction.getItem().getName(), auction, RequestType.OUTBID_NOTIFICATION);
+        for (ClientHandler handler : outbidSessions) {
+            handler.sendNotification(outbidResponse);
         }
     }
 
@@ -448,7 +675,8 @@ public class AuctionService {
         String sql = "SELECT b.*, u.username as bidder_username " +
                 "FROM bids b JOIN users u ON b.bidder_id = u.user_id " +
                 "WHERE b.auction_id = ? ORDER BY b.bid_time DESC";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, auctionId);
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
@@ -462,143 +690,238 @@ public class AuctionService {
                 bids.add(bid);
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load bids for auction {}", auctionId, e);
         }
         return bids;
     }
 
-    private void scheduleAuctionStatusChecks() {
-        auctionTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                updateUpcomingAuctions();
-                updateActiveAuctionsToEnd();
+    private void loadLifecycleDeadlines() {
+        String sql = "SELECT auction_id, status, start_time, end_time FROM auctions WHERE status IN ('UPCOMING', 'ACTIVE')";
+        int starts = 0;
+        int ends = 0;
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                int auctionId = rs.getInt("auction_id");
+                if (Auction.AuctionStatus.UPCOMING.name().equals(rs.getString("status"))) {
+                    lifecycleScheduler.scheduleStart(auctionId, rs.getTimestamp("start_time"));
+                    starts++;
+                } else {
+                    lifecycleScheduler.scheduleEnd(auctionId, rs.getTimestamp("end_time"));
+                    ends++;
+                }
             }
-        }, 0, 10_000);
+        } catch (SQLException e) {
+            log.error("Could not load auction deadlines", e);
+            return;
+        }
+        log.info("Scheduled {} auction starts and {} auction ends.", starts, ends);
     }
 
-    private void updateUpcomingAuctions() {
-        String sql = "UPDATE auctions SET status = 'ACTIVE' WHERE status = 'UPCOMING' AND start_time <= CURRENT_TIMESTAMP";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
-            int updatedCount = pstmt.executeUpdate();
-            if (updatedCount > 0) {
-                System.out.println(updatedCount + " auctions moved from UPCOMING to ACTIVE.");
+    private void activateAuction(int auctionId) {
+        String sql = "UPDATE auctions SET status = 'ACTIVE' WHERE auction_id = ? AND status = 'UPCOMING'";
+        Auction auction;
+        Lock bidLock = bidLockFor(auctionId);
+        bidLock.lock();
+        try {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, auctionId);
+                if (pstmt.executeUpdate() == 0) {
+                    return;
+                }
+            } catch (SQLException e) {
+                log.error("Could not activate auction {}: {}", auctionId, e.getMessage());
+                return;
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            auction = loadAuctionFromDatabase(auctionId);
+            if (auction == null) {
+                return;
+            }
+            ActiveAuctionState state = new ActiveAuctionState(auction);
+            activeAuctionBook.put(auctionId, state);
+            activeListing.put(state.snapshot());
+            lifecycleScheduler.scheduleEnd(auctionId, auction.getEndTime());
+            broadcastAuctionUpdate(auction);
+        } finally {
+            bidLock.unlock();
         }
+        log.info("Auction {} moved from UPCOMING to ACTIVE.", auctionId);
+        indexAuction(auction);
     }
 
-    private void updateActiveAuctionsToEnd() {
-        String sqlSelect = "SELECT auction_id, item_id, winning_bidder_id, reserve_price, current_highest_bid FROM auctions WHERE status = 'ACTIVE' AND end_time <= CURRENT_TIMESTAMP";
+    private void closeDueAuctions(List<Integer> auctionIds) {
+        for (int auctionId : auctionIds) {
+            Lock bidLock = bidLockFor(auctionId);
+            bidLock.lock();
+            try {
+                activeAuctionBook.remove(auctionId);
+                activeListing.remove(auctionId);
+            } finally {
+                bidLock.unlock();
+            }
+        }
+        for (int auctionId : auctionIds) {
+            bidWriteBehind.awaitPersisted(auctionId);
+        }
 
-        List<Integer> auctionsToEnd = new ArrayList<>();
-        try (PreparedStatement pstmtSelect = dbManager.getPreparedStatement(sqlSelect)) {
-            ResultSet rs = pstmtSelect.executeQuery();
-            while (rs.next()) {
-                auctionsToEnd.add(rs.getInt("auction_id"));
+        List<Auction> closed = new ArrayList<>();
+        Map<Integer, String> winnerNames = new HashMap<>();
+        try (Connection conn = dbManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                for (int from = 0; from < auctionIds.size(); from += CLOSE_BATCH_SIZE) {
+                    List<Integer> chunk = auctionIds.subList(from, Math.min(from + CLOSE_BATCH_SIZE, auctionIds.size()));
+                    closeAuctionChunk(conn, chunk, closed, winnerNames);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Closing {} auctions failed, retrying in {}ms: {}", auctionIds.size(), CLOSE_RETRY_DELAY_MILLIS, e.getMessage());
+            Timestamp retryAt = new Timestamp(System.currentTimeMillis() + CLOSE_RETRY_DELAY_MILLIS);
+            for (int auctionId : auctionIds) {
+                lifecycleScheduler.scheduleEnd(auctionId, retryAt);
+            }
             return;
         }
+        log.info("Closed {} auctions in one batch.", closed.size());
 
-        for (int auctionId : auctionsToEnd) {
-            Auction auction = getAuctionDetails(auctionId);
-            if (auction == null || auction.getStatus() != Auction.AuctionStatus.ACTIVE)
-                continue;
-
-            boolean reserveMet = true;
-            boolean hasWinner = auction.getWinningBidderId() > 0;
-
-            if (auction.getReservePrice() != null && auction.getReservePrice().compareTo(BigDecimal.ZERO) > 0) {
-                if (!hasWinner || auction.getCurrentHighestBid().compareTo(auction.getReservePrice()) < 0) {
-                    reserveMet = false;
-                }
+        for (Auction auction : closed) {
+            indexAuction(auction);
+            broadcastAuctionUpdate(auction);
+            if (auction.getStatus() == Auction.AuctionStatus.ENDED && auction.getWinningBidderId() > 0) {
+                sendWinnerNotification(auction);
             }
+            sendSellerAuctionEndedNotification(auction, winnerNames.get(auction.getAuctionId()));
+        }
+    }
 
-            Auction.AuctionStatus finalStatus;
-            int finalWinnerId = 0;
-
-            if (hasWinner && reserveMet) {
-                finalStatus = Auction.AuctionStatus.ENDED;
-                finalWinnerId = auction.getWinningBidderId();
-            } else if (hasWinner && !reserveMet) {
-                finalStatus = Auction.AuctionStatus.ENDED;
-                System.out.println("Auction " + auctionId + " ended, reserve not met.");
-            } else {
-                finalStatus = Auction.AuctionStatus.ENDED;
-                System.out.println("Auction " + auctionId + " ended, no bids.");
+    private void closeAuctionChunk(Connection conn, List<Integer> auctionIds, List<Auction> closed, Map<Integer, String> winnerNames) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(auctionIds.size(), "?"));
+        String sqlSelect = "SELECT " + AuctionRowMapper.AUCTION_WITH_ITEM_AND_WINNER.columns() + " " +
+                "FROM auctions a JOIN items i ON a.item_id = i.item_id " +
+                "LEFT JOIN users w ON a.winning_bidder_id = w.user_id " +
+                "WHERE a.auction_id IN (" + placeholders + ") AND a.status = 'ACTIVE' FOR UPDATE";
+        String sqlUpdate = "UPDATE auctions SET status = 'ENDED', winning_bidder_id = CASE " +
+                "WHEN reserve_price > 0 AND (winning_bidder_id IS NULL OR current_highest_bid < reserve_price) THEN NULL " +
+                "WHEN winning_bidder_id > 0 THEN winning_bidder_id ELSE NULL END " +
+                "WHERE auction_id IN (" + placeholders + ") AND status = 'ACTIVE'";
+
+        List<Auction> chunkClosed = new ArrayList<>();
+        try (PreparedStatement pstmtSelect = conn.prepareStatement(sqlSelect)) {
+            for (int i = 0; i < auctionIds.size(); i++) {
+                pstmtSelect.setInt(i + 1, auctionIds.get(i));
             }
-
-            String sqlUpdateStatus = "UPDATE auctions SET status = ?, winning_bidder_id = ? WHERE auction_id = ?";
-            try (PreparedStatement pstmtUpdate = dbManager.getPreparedStatement(sqlUpdateStatus)) {
-                pstmtUpdate.setString(1, finalStatus.name());
-                if (finalWinnerId > 0) {
-                    pstmtUpdate.setInt(2, finalWinnerId);
+            ResultSet rs = pstmtSelect.executeQuery();
+            while (rs.next()) {
+                Auction auction = AuctionRowMapper.AUCTION_WITH_ITEM_AND_WINNER.map(rs);
+                boolean hasWinner = auction.getWinningBidderId() > 0;
+                boolean reserveMet = auction.getReservePrice() == null || auction.getReservePrice().compareTo(BigDecimal.ZERO) <= 0
+                        || (hasWinner && auction.getCurrentHighestBid().compareTo(auction.getReservePrice()) >= 0);
+                if (hasWinner && reserveMet) {
+                    winnerNames.put(auction.getAuctionId(), AuctionRowMapper.AUCTION_WITH_ITEM_AND_WINNER.winnerUsername(rs));
                 } else {
-                    pstmtUpdate.setNull(2, Types.INTEGER);
-                }
-                pstmtUpdate.setInt(3, auctionId);
-                int updated = pstmtUpdate.executeUpdate();
-
-                if (updated > 0) {
-                    System.out.println("Auction ID " + auctionId + " status updated to " + finalStatus);
-                    auction.setStatus(finalStatus);
-                    auction.setWinningBidderId(finalWinnerId);
-
-                    broadcastAuctionUpdate(auction);
-                    if (finalStatus == Auction.AuctionStatus.ENDED && finalWinnerId > 0) {
-                        sendWinnerNotification(finalWinnerId, auction);
-                    }
-                    sendSellerAuctionEndedNotification(auction);
+                    auction.setWinningBidderId(0);
+                    log.info("Auction {} ended, {}", auction.getAuctionId(), hasWinner ? "reserve not met." : "no bids.");
                 }
-            } catch (SQLException e) {
-                e.printStackTrace();
+                auction.setStatus(Auction.AuctionStatus.ENDED);
+                chunkClosed.add(auction);
             }
         }
+        if (chunkClosed.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement pstmtUpdate = conn.prepareStatement(sqlUpdate)) {
+            for (int i = 0; i < auctionIds.size(); i++) {
+                pstmtUpdate.setInt(i + 1, auctionIds.get(i));
+            }
+            pstmtUpdate.executeUpdate();
+        }
+        closed.addAll(chunkClosed);
     }
 
-    private void sendWinnerNotification(int winnerId, Auction auction) {
-        for (ClientHandler handler : activeClientHandlers) {
-            if (handler.getCurrentUser() != null && handler.getCurrentUser().getUserId() == winnerId) {
-                Response winnerResponse = new Response(true, "Congratulations! You won the auction for " + auction.getItem().getName(), auction, RequestType.WINNER_NOTIFICATION);
-                handler.sendNotification(winnerResponse);
-                break;
-            }
+    private void sendWinnerNotification(Auction auction) {
+        Collection<ClientHandler> winnerSessions = sessions.sessionsFor(auction.getWinningBidderId());
+        if (winnerSessions.isEmpty()) return;
+        Response winnerResponse = new Response(true, "Congratulations! You won the auction for " + auction.getItem().getName(), auction, RequestType.WINNER_NOTIFICATION);
+        for (ClientHandler handler : winnerSessions) {
+            handler.sendNotification(winnerResponse);
         }
     }
 
-    private void sendSellerAuctionEndedNotification(Auction auction) {
+    private void sendSellerAuctionEndedNotification(Auction auction, String winnerName) {
         if (auction.getItem() == null || auction.getItem().getSellerId() <= 0) return;
-        int sellerId = auction.getItem().getSellerId();
-
-        for (ClientHandler handler : activeClientHandlers) {
-            if (handler.getCurrentUser() != null && handler.getCurrentUser().getUserId() == sellerId) {
-                String message;
-                if (auction.getWinningBidderId() > 0) {
-                    User winner = userService.getUserById(auction.getWinningBidderId());
-                    String winnerName = winner != null ? winner.getUsername() : "Unknown";
-                    message = String.format("Your auction for '%s' has ended. Sold to %s for %s.",
-                            auction.getItem().getName(), winnerName, auction.getCurrentHighestBid());
-                } else {
-                    message = String.format("Your auction for '%s' has ended. Item was not sold (no qualifying bids or reserve not met).",
-                            auction.getItem().getName());
-                }
-                Response sellerResponse = new Response(true, message, auction, RequestType.AUCTION_ENDED_SELLER_NOTIFICATION);
-                handler.sendNotification(sellerResponse);
-                break;
-            }
+        Collection<ClientHandler> sellerSessions = sessions.sessionsFor(auction.getItem().getSellerId());
+        if (sellerSessions.isEmpty()) return;
+
+        String message;
+        if (auction.getWinningBidderId() > 0) {
+            message = String.format("Your auction for '%s' has ended. Sold to %s for %s.",
+                    auction.getItem().getName(), winnerName != null ? winnerName : "Unknown", auction.getCurrentHighestBid());
+        } else {
+            message = String.format("Your auction for '%s' has ended. Item was not sold (no qualifying bids or reserve not met).",
+                    auction.getItem().getName());
         }
+        Response sellerResponse = new Response(true, message, auction, RequestType.AUCTION_ENDED_SELLER_NOTIFICATION);
+        for (ClientHandler handler : sellerSessions) {
+            handler.sendNotification(sellerResponse);
+        }
+    }
 
+    public int getSubscribedAuctionCount() {
+        return subscriptions.getAuctionCount();
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.getSubscriberCount();
+    }
+
+    public long getSubscriptionCount() {
+        return subscriptions.getSubscriptionCount();
+    }
+
+    public int getActiveAuctionCount() {
+        return activeAuctionBook.size();
+    }
+
+    public int getPendingBidWrites() {
+        return bidWriteBehind.getPendingCount();
+    }
+
+    public long getPersistedBidCount() {
+        return bidWriteBehind.getPersistedCount();
+    }
+
+    public long getBidWriteBatchCount() {
+        return bidWriteBehind.getBatchCount();
+    }
+
+    public long getJournalSequence() {
+        return bidJournal != null ? bidJournal.getLastAppendedSequence() : 0;
+    }
+
+    public long getUnprojectedJournalBids() {
+        return bidJournal != null ? bidJournal.getLastAppendedSequence() - bidJournal.getProjectedSequence() : 0;
+    }
+
+    public long getJournalGroupCommits() {
+        return bidJournal != null ? bidJournal.getForceCount() : 0;
+    }
+
+    public LatencyHistogram getBroadcastPublishLag() {
+        return updateConflator.getPublishLag();
     }
 
     public void shutdownScheduler() {
-        if (this.auctionTimer != null) {
-            this.auctionTimer.cancel();
-            this.auctionTimer.purge();
-            System.out.println("Auction scheduler has been shut down.");
-        }
+        lifecycleScheduler.shutdown();
+        updateConflator.shutdown();
+        log.info("Active auction listing at version {}, rebuilt {} times.", activeListing.getVersion(), activeListing.getRebuildCount());
+        log.info("Published {} of {} auction updates after conflation.", updateConflator.getPublishedCount(), updateConflator.getSubmittedCount());
+        log.info("Auction scheduler has been shut down.");
     }
 
     public List<Bid> getBidsByUserId(int userId) {
@@ -609,7 +932,8 @@ public class AuctionService {
                 "JOIN auctions a ON b.auction_id = a.auction_id " +
                 "JOIN items i ON a.item_id = i.item_id " +
                 "WHERE b.bidder_id = ? ORDER BY b.bid_time DESC";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
@@ -626,65 +950,97 @@ public class AuctionService {
                 bids.add(bid);
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load bids for user {}", userId, e);
         }
         return bids;
     }
 
     public List<Auction> getWonAuctionsByUserId(int userId) {
         List<Auction> auctions = new ArrayList<>();
-        String sql = "SELECT a.*, i.name as item_name, i.description as item_desc, i.image_path as item_image " +
+        String sql = "SELECT " + AuctionRowMapper.AUCTION_WITH_ITEM.columns() + " " +
                 "FROM auctions a JOIN items i ON a.item_id = i.item_id " +
                 "WHERE a.winning_bidder_id = ? AND a.status = 'ENDED' " +
                 "ORDER BY a.end_time DESC";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
-                auctions.add(mapResultSetToAuctionWithItem(rs));
+                auctions.add(AuctionRowMapper.AUCTION_WITH_ITEM.map(rs));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load won auctions for user {}", userId, e);
         }
         return auctions;
     }
 
     public List<Auction> getAllAuctionsForAdmin() {
         List<Auction> auctions = new ArrayList<>();
-        String sql = "SELECT a.*, i.name as item_name, i.description as item_desc, i.image_path as item_image " +
+        String sql = "SELECT " + AuctionRowMapper.AUCTION_WITH_ITEM.columns() + " " +
                 "FROM auctions a JOIN items i ON a.item_id = i.item_id " +
                 "ORDER BY a.created_at DESC";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
-                auctions.add(mapResultSetToAuctionWithItem(rs));
+                auctions.add(AuctionRowMapper.AUCTION_WITH_ITEM.map(rs));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load auctions for admin", e);
         }
         return auctions;
     }
 
+    public Page<Auction> getAllAuctionsForAdminPage(PageRequest pageRequest) {
+        int limit = PageCursor.limitOf(pageRequest);
+        String[] after = PageCursor.decode(pageRequest, "admin-auctions", 2);
+        String sql = "SELECT " + AuctionRowMapper.AUCTION_WITH_ITEM.columns() + " " +
+                "FROM auctions a JOIN items i ON a.item_id = i.item_id " +
+                (after != null ? "WHERE a.created_at < ? OR (a.created_at = ? AND a.auction_id < ?) " : "") +
+                "ORDER BY a.created_at DESC, a.auction_id DESC LIMIT ?";
+        List<Auction> auctions = new ArrayList<>();
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (after != null) {
+                Timestamp createdAt = new Timestamp(Long.parseLong(after[0]));
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setTimestamp(index++, createdAt);
+                pstmt.setInt(index++, Integer.parseInt(after[1]));
+            }
+            pstmt.setInt(index, limit + 1);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                auctions.add(AuctionRowMapper.AUCTION_WITH_ITEM.map(rs));
+            }
+        } catch (SQLException e) {
+            log.error("Could not load auctions page for admin", e);
+        }
+        String nextCursor = null;
+        if (auctions.size() > limit) {
+            auctions.remove(limit);
+            Auction last = auctions.get(limit - 1);
+            nextCursor = PageCursor.encode("admin-auctions", last.getCreatedAt().getTime(), last.getAuctionId());
+        }
+        return new Page<>(auctions, nextCursor);
+    }
+
     public List<Auction> getAuctionsCreatedBySeller(int sellerId) {
         List<Auction> auctions = new ArrayList<>();
-        String sql = "SELECT a.*, i.name as item_name, i.description as item_desc, i.image_path as item_image, i.seller_id as item_seller_id, " +
-                "u_winner.username as winner_username " +
+        String sql = "SELECT " + AuctionRowMapper.AUCTION_WITH_ITEM.columns() + " " +
                 "FROM auctions a " +
                 "JOIN items i ON a.item_id = i.item_id " +
-                "LEFT JOIN users u_winner ON a.winning_bidder_id = u_winner.user_id " +
                 "WHERE i.seller_id = ? " +
                 "ORDER BY a.created_at DESC";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, sellerId);
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
-                Auction auction = mapResultSetToAuctionWithItem(rs);
-                if (auction.getWinningBidderId() > 0 && hasColumn(rs, "winner_username")) {
-                }
-                auctions.add(auction);
+                auctions.add(AuctionRowMapper.AUCTION_WITH_ITEM.map(rs));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load auctions for seller {}", sellerId, e);
         }
         return auctions;
     }
@@ -0,0 +1,37 @@
+package com.university.auctionsystem.server.services;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+
+class BidIncrementTable {
+    static final String DEFAULT_TABLE = "0:0.50,20:1.00,100:2.50,500:5.00,1000:10.00,5000:25.00,10000:50.00";
+
+    private final TreeMap<BigDecimal, BigDecimal> incrementFromPrice = new TreeMap<>();
+
+    BidIncrementTable(String table) {
+        for (String step : table.split(",")) {
+            String[] parts = step.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Bid increment step must be price:increment, got '" + step + "'");
+            }
+            BigDecimal increment = new BigDecimal(parts[1].trim());
+            if (increment.signum() <= 0) {
+                throw new IllegalArgumentException("Bid increment must be positive, got '" + step + "'");
+            }
+            incrementFromPrice.put(new BigDecimal(parts[0].trim()), increment);
+        }
+        if (incrementFromPrice.isEmpty() || incrementFromPrice.firstKey().signum() > 0) {
+            throw new IllegalArgumentException("Bid increment table must start at price 0");
+        }
+    }
+
+    BigDecimal incrementFor(BigDecimal price) {
+        Map.Entry<BigDecimal, BigDecimal> step = incrementFromPrice.floorEntry(price);
+        return step != null ? step.getValue() : incrementFromPrice.firstEntry().getValue();
+    }
+
+    BigDecimal nextBid(BigDecimal price) {
+        return price.add(incrementFor(price));
+    }
+}
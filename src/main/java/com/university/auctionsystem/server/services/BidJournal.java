@@ -0,0 +1,432 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.shared.model.Bid;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.zip.CRC32;
+
+class BidJournal {
+    private static final Logger log = Logger.getLogger(BidJournal.class);
+    private static final String SEGMENT_PREFIX = "bids-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int RECORD_PREFIX_BYTES = 8 + 1;
+    private static final int FIXED_BID_BYTES = 4 + 4 + 8 + 4 + 2;
+    private static final int TOMBSTONE_BYTES = 8;
+    private static final byte RECORD_BID = 1;
+    private static final byte RECORD_TOMBSTONE = 2;
+    private static final byte RECORD_CEILING = 3;
+    private static final long FLUSHER_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Deque<Segment> closedSegments = new ArrayDeque<>();
+    private final Deque<Segment> replayedSegments = new ArrayDeque<>();
+    private final TreeSet<Long> completedAhead = new TreeSet<>();
+    private final ReentrantLock durableLock = new ReentrantLock();
+    private final Condition durableAdvanced = durableLock.newCondition();
+    private final Thread flusher;
+    private Segment active;
+    private long completedSequence;
+    private volatile long lastAppendedSequence;
+    private volatile long durableSequence;
+    private volatile long projectedSequence;
+    private volatile boolean running = true;
+    private volatile long forceCount;
+
+    BidJournal(Path directory, int segmentBytes, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        Files.createDirectories(directory);
+        this.flusher = new Thread(this::flushLoop, "BidJournalFlusher");
+        this.flusher.setDaemon(true);
+    }
+
+    int replay(ObjLongConsumer<Bid> bids, ObjLongConsumer<Bid> ceilings) throws IOException {
+        // Tombstones follow the bid they cancel, so collect them all before handing out any bid.
+        List<Segment> segments = new ArrayList<>();
+        Set<Long> tombstoned = new HashSet<>();
+        for (Path file : listSegments()) {
+            Segment segment = Segment.open(file, segmentBytes);
+            scan(segment, (sequence, type, body) -> {
+                if (type == RECORD_TOMBSTONE) {
+                    tombstoned.add(segment.buffer.getLong(body));
+                }
+            });
+            if (segment.lastSequence == 0) {
+                segment.delete();
+            } else {
+                segments.add(segment);
+            }
+        }
+        int[] replayed = new int[1];
+        for (Segment segment : segments) {
+            scan(segment, (sequence, type, body) -> {
+                if (type == RECORD_TOMBSTONE || tombstoned.contains(sequence)) {
+                    return;
+                }
+                if (type == RECORD_BID) {
+                    bids.accept(decode(segment.buffer, body), sequence);
+                } else if (type == RECORD_CEILING) {
+                    ceilings.accept(decode(segment.buffer, body), sequence);
+                }
+                replayed[0]++;
+            });
+            replayedSegments.addLast(segment);
+        }
+        durableSequence = lastAppendedSequence;
+        completedSequence = lastAppendedSequence;
+        refreshProjectedSequence();
+        return replayed[0];
+    }
+
+    private void scan(Segment segment, RecordVisitor visitor) {
+        ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + RECORD_HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length < RECORD_PREFIX_BYTES || position + RECORD_HEADER_BYTES + length > buffer.capacity()) {
+                break;
+            }
+            int payload = position + RECORD_HEADER_BYTES;
+            if (buffer.getInt(position + 4) != crc(buffer, payload, length)) {
+                log.warn("Journal segment {} has a torn record at offset {}, ignoring the rest of it.", segment.file.getFileName(), position);
+                break;
+            }
+            long sequence = buffer.getLong(payload);
+            visitor.visit(sequence, buffer.get(payload + 8), payload + RECORD_PREFIX_BYTES);
+            if (segment.firstSequence == 0) {
+                segment.firstSequence = sequence;
+            }
+            segment.lastSequence = sequence;
+            lastAppendedSequence = Math.max(lastAppendedSequence, sequence);
+            position = payload + length;
+        }
+        segment.position = position;
+    }
+
+    void start() {
+        if (fsync) {
+            flusher.start();
+        }
+    }
+
+    long append(Bid bid, Function<Bid, CompletableFuture<?>> projector) throws IOException {
+        return append(RECORD_BID, bid, projector);
+    }
+
+    long appendCeiling(Bid ceiling, Function<Bid, CompletableFuture<?>> projector) throws IOException {
+        return append(RECORD_CEILING, ceiling, projector);
+    }
+
+    private long append(byte type, Bid bid, Function<Bid, CompletableFuture<?>> projector) throws IOException {
+        long sequence;
+        CompletableFuture<?> projection;
+        appendLock.lock();
+        try {
+            sequence = write(type, bid, 0);
+            projection = projector.apply(bid);
+        } finally {
+            appendLock.unlock();
+        }
+        // Attached outside the lock: a refused projection appends a tombstone and waits for the flusher.
+        projection.whenComplete((projected, error) -> markProjected(sequence, error));
+        return sequence;
+    }
+
+    boolean tombstone(long sequence) {
+        long tombstoneSequence;
+        appendLock.lock();
+        try {
+            tombstoneSequence = write(RECORD_TOMBSTONE, null, sequence);
+            markCompleted(tombstoneSequence);
+        } catch (IOException e) {
+            log.error("Could not tombstone journal sequence {}, it will be replayed on the next start", sequence, e);
+            return false;
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(tombstoneSequence);
+        return true;
+    }
+
+    private long write(byte type, Bid bid, long target) throws IOException {
+        byte[] unscaled = bid != null ? bid.getBidAmount().unscaledValue().toByteArray() : null;
+        int length = RECORD_PREFIX_BYTES + (bid != null ? FIXED_BID_BYTES + unscaled.length : TOMBSTONE_BYTES);
+        if (active == null || active.position + RECORD_HEADER_BYTES + length > segmentBytes) {
+            roll();
+        }
+        long sequence = lastAppendedSequence + 1;
+        MappedByteBuffer buffer = active.buffer;
+        int position = active.position;
+        int payload = position + RECORD_HEADER_BYTES;
+        int body = payload + RECORD_PREFIX_BYTES;
+        buffer.putLong(payload, sequence);
+        buffer.put(payload + 8, type);
+        if (bid != null) {
+            buffer.putInt(body, bid.getAuctionId());
+            buffer.putInt(body + 4, bid.getBidderId());
+            buffer.putLong(body + 8, bid.getBidTime() != null ? bid.getBidTime().getTime() : System.currentTimeMillis());
+            buffer.putInt(body + 16, bid.getBidAmount().scale());
+            buffer.putShort(body + 20, (short) unscaled.length);
+            buffer.put(body + 22, unscaled);
+        } else {
+            buffer.putLong(body, target);
+        }
+        buffer.putInt(position + 4, crc(buffer, payload, length));
+        buffer.putInt(position, length);
+        active.position = payload + length;
+        if (active.firstSequence == 0) {
+            active.firstSequence = sequence;
+        }
+        active.lastSequence = sequence;
+        lastAppendedSequence = sequence;
+        if (!fsync) {
+            durableSequence = sequence;
+        }
+        return sequence;
+    }
+
+    void awaitDurable(long sequence) {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        LockSupport.unpark(flusher);
+        durableLock.lock();
+        try {
+            while (durableSequence < sequence && running) {
+                durableAdvanced.await(10, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    private void markProjected(long sequence, Throwable error) {
+        // The database is the source of truth: a bid it refused is rolled back in the order book, so replay must skip it too.
+        if (error != null) {
+            log.warn("Journal sequence {} was refused by the database, tombstoning it: {}", sequence, error.getMessage());
+            if (!tombstone(sequence)) {
+                return;
+            }
+        }
+        appendLock.lock();
+        try {
+            markCompleted(sequence);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void markCompleted(long sequence) {
+        if (sequence == completedSequence + 1) {
+            completedSequence = sequence;
+            while (completedAhead.remove(completedSequence + 1)) {
+                completedSequence++;
+            }
+        } else {
+            completedAhead.add(sequence);
+        }
+        refreshProjectedSequence();
+        deleteProjectedSegments();
+    }
+
+    void markReplayProjected() {
+        appendLock.lock();
+        try {
+            while (!replayedSegments.isEmpty()) {
+                deleteSegment(replayedSegments.pollFirst());
+            }
+            refreshProjectedSequence();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void refreshProjectedSequence() {
+        long projected = completedSequence;
+        if (!replayedSegments.isEmpty()) {
+            projected = Math.min(projected, replayedSegments.peekFirst().firstSequence - 1);
+        }
+        projectedSequence = projected;
+    }
+
+    private void deleteProjectedSegments() {
+        while (!closedSegments.isEmpty() && closedSegments.peekFirst().lastSequence <= completedSequence) {
+            deleteSegment(closedSegments.pollFirst());
+        }
+    }
+
+    private static void deleteSegment(Segment segment) {
+        try {
+            segment.delete();
+        } catch (IOException e) {
+            log.warn("Could not delete projected journal segment {}: {}", segment.file.getFileName(), e.getMessage());
+        }
+    }
+
+    long getLastAppendedSequence() {
+        return lastAppendedSequence;
+    }
+
+    long getDurableSequence() {
+        return durableSequence;
+    }
+
+    long getProjectedSequence() {
+        return projectedSequence;
+    }
+
+    long getForceCount() {
+        return forceCount;
+    }
+
+    void close() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        appendLock.lock();
+        try {
+            if (active != null) {
+                active.buffer.force();
+                if (active.lastSequence <= projectedSequence) {
+                    active.delete();
+                    active = null;
+                }
+            }
+            deleteProjectedSegments();
+        } catch (IOException e) {
+            log.error("Could not close bid journal", e);
+        } finally {
+            appendLock.unlock();
+        }
+        log.info("Bid journal closed at sequence {} (projected {}, {} group commits).", lastAppendedSequence, projectedSequence, forceCount);
+    }
+
+    private void roll() throws IOException {
+        if (active != null) {
+            active.buffer.force();
+            closedSegments.addLast(active);
+        }
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, lastAppendedSequence + 1, SEGMENT_SUFFIX));
+        active = Segment.open(file, segmentBytes);
+    }
+
+    private void flushLoop() {
+        while (running || durableSequence < lastAppendedSequence) {
+            long target = lastAppendedSequence;
+            if (target <= durableSequence) {
+                LockSupport.parkNanos(FLUSHER_IDLE_PARK_NANOS);
+                continue;
+            }
+            appendLock.lock();
+            MappedByteBuffer buffer;
+            try {
+                target = lastAppendedSequence;
+                buffer = active != null ? active.buffer : null;
+            } finally {
+                appendLock.unlock();
+            }
+            if (buffer != null) {
+                buffer.force();
+            }
+            forceCount++;
+            durableLock.lock();
+            try {
+                durableSequence = Math.max(durableSequence, target);
+                durableAdvanced.signalAll();
+            } finally {
+                durableLock.unlock();
+            }
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    private interface RecordVisitor {
+        void visit(long sequence, byte type, int body);
+    }
+
+    private static Bid decode(ByteBuffer buffer, int offset) {
+        Bid bid = new Bid();
+        bid.setAuctionId(buffer.getInt(offset));
+        bid.setBidderId(buffer.getInt(offset + 4));
+        bid.setBidTime(new Timestamp(buffer.getLong(offset + 8)));
+        int scale = buffer.getInt(offset + 16);
+        byte[] unscaled = new byte[buffer.getShort(offset + 20)];
+        buffer.get(offset + 22, unscaled);
+        bid.setBidAmount(new BigDecimal(new BigInteger(unscaled), scale));
+        return bid;
+    }
+
+    private static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static class Segment {
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        private int position;
+        private long firstSequence;
+        private long lastSequence;
+
+        private Segment(Path file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        private static Segment open(Path file, int segmentBytes) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = Math.max(channel.size(), segmentBytes);
+                return new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+
+        private void delete() throws IOException {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.shared.model.Bid;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+class BidLadder {
+    private final BidIncrementTable increments;
+
+    BidLadder(BidIncrementTable increments) {
+        this.increments = increments;
+    }
+
+    List<Bid> resolve(Bid bid, boolean proxy, int leaderId, BigDecimal currentHighest, BigDecimal leaderCeiling) {
+        int bidderId = bid.getBidderId();
+        BigDecimal amount = bid.getBidAmount();
+        List<Bid> bids = new ArrayList<>(2);
+        if (bidderId == leaderId) {
+            if (!proxy) {
+                bids.add(bid);
+            }
+            return bids;
+        }
+        // The leader's automatic bid defends up to its ceiling; the earlier ceiling wins a tie.
+        if (amount.compareTo(leaderCeiling) <= 0) {
+            BigDecimal defended = leaderCeiling.min(increments.nextBid(amount));
+            if (defended.compareTo(amount) > 0) {
+                bids.add(proxy ? automaticBid(bid, bidderId, amount) : bid);
+            }
+            bids.add(automaticBid(bid, leaderId, defended));
+        } else {
+            if (leaderCeiling.compareTo(currentHighest) > 0) {
+                bids.add(automaticBid(bid, leaderId, leaderCeiling));
+            }
+            bids.add(proxy ? automaticBid(bid, bidderId, amount.min(increments.nextBid(leaderCeiling))) : bid);
+        }
+        return bids;
+    }
+
+    static Bid automaticBid(Bid request, int bidderId, BigDecimal amount) {
+        Bid bid = new Bid(request.getAuctionId(), bidderId, amount);
+        bid.setBidTime(request.getBidTime());
+        return bid;
+    }
+}
@@ -0,0 +1,299 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.server.DatabaseManager;
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.shared.model.Bid;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+class BidWriteBehind {
+    private static final Logger log = Logger.getLogger(BidWriteBehind.class);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+    private static final int BATCH_SIZE = Integer.getInteger("auction.bids.batchSize", 256);
+    private static final long BATCH_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("auction.bids.batchWindowMs", 2));
+    private static final String INSERT_BID_SQL = "INSERT INTO bids (auction_id, bidder_id, bid_amount, bid_time) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_AUCTION_SQL = "UPDATE auctions SET current_highest_bid = ?, winning_bidder_id = ? WHERE auction_id = ?";
+    private static final String UPSERT_CEILING_SQL = "INSERT INTO proxy_ceilings (auction_id, bidder_id, max_amount) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE bidder_id = VALUES(bidder_id), max_amount = VALUES(max_amount)";
+
+    private final DatabaseManager dbManager;
+    private final Consumer<Bid> onPersistFailure;
+    private final Consumer<Bid> onCeilingPersistFailure;
+    private final BlockingQueue<PendingBid> queue = new LinkedBlockingQueue<>();
+    private final Map<Integer, CompletableFuture<Bid>> lastWriteByAuction = new ConcurrentHashMap<>();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile long persistedCount;
+    private volatile long batchCount;
+
+    BidWriteBehind(DatabaseManager dbManager, Consumer<Bid> onPersistFailure, Consumer<Bid> onCeilingPersistFailure) {
+        this.dbManager = dbManager;
+        this.onPersistFailure = onPersistFailure;
+        this.onCeilingPersistFailure = onCeilingPersistFailure;
+        this.writerThread = new Thread(this::drain, "BidWriteBehind");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    CompletableFuture<Bid> submit(Bid bid) {
+        return enqueue(bid, false);
+    }
+
+    CompletableFuture<Bid> submitCeiling(Bid ceiling) {
+        return enqueue(ceiling, true);
+    }
+
+    private CompletableFuture<Bid> enqueue(Bid bid, boolean ceiling) {
+        CompletableFuture<Bid> ack = new CompletableFuture<>();
+        lastWriteByAuction.put(bid.getAuctionId(), ack);
+        queue.add(new PendingBid(bid, ceiling, ack));
+        ack.whenComplete((persisted, error) -> lastWriteByAuction.remove(bid.getAuctionId(), ack));
+        return ack;
+    }
+
+    void awaitPersisted(int auctionId) {
+        CompletableFuture<Bid> last = lastWriteByAuction.get(auctionId);
+        if (last != null) {
+            try {
+                last.join();
+            } catch (RuntimeException e) {
+                log.warn("Last write for auction {} failed: {}", auctionId, e.getMessage());
+            }
+        }
+    }
+
+    int getPendingCount() {
+        return queue.size();
+    }
+
+    long getPersistedCount() {
+        return persistedCount;
+    }
+
+    long getBatchCount() {
+        return batchCount;
+    }
+
+    private void drain() {
+        List<PendingBid> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingBid first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void collectBatch(List<PendingBid> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + BATCH_WINDOW_NANOS;
+        queue.drainTo(batch, BATCH_SIZE - batch.size());
+        while (running && batch.size() < BATCH_SIZE) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingBid next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, BATCH_SIZE - batch.size());
+        }
+    }
+
+    private void writeBatch(List<PendingBid> batch) {
+        batchCount++;
+        if (batch.size() == 1) {
+            write(batch.get(0));
+            return;
+        }
+        try {
+            persistBatch(batch);
+        } catch (SQLException e) {
+            log.warn("Batch of {} bids failed, writing them one by one: {}", batch.size(), e.getMessage());
+            for (PendingBid pending : batch) {
+                write(pending);
+            }
+            return;
+        }
+        persistedCount += batch.size();
+        for (PendingBid pending : batch) {
+            pending.ack.complete(pending.bid);
+        }
+    }
+
+    private void persistBatch(List<PendingBid> batch) throws SQLException {
+        List<Bid> inserted = new ArrayList<>(batch.size());
+        Map<Integer, Bid> leadingBidByAuction = new LinkedHashMap<>();
+        Map<Integer, Bid> ceilingByAuction = new LinkedHashMap<>();
+        try (Connection conn = dbManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmtInsert = conn.prepareStatement(INSERT_BID_SQL, Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement pstmtUpdate = conn.prepareStatement(UPDATE_AUCTION_SQL);
+                 PreparedStatement pstmtCeiling = conn.prepareStatement(UPSERT_CEILING_SQL)) {
+
+                for (PendingBid pending : batch) {
+                    Bid bid = pending.bid;
+                    if (pending.ceiling) {
+                        ceilingByAuction.put(bid.getAuctionId(), bid);
+                        continue;
+                    }
+                    pstmtInsert.setInt(1, bid.getAuctionId());
+                    pstmtInsert.setInt(2, bid.getBidderId());
+                    pstmtInsert.setBigDecimal(3, bid.getBidAmount());
+                    pstmtInsert.setTimestamp(4, bid.getBidTime());
+                    pstmtInsert.addBatch();
+                    inserted.add(bid);
+                    leadingBidByAuction.put(bid.getAuctionId(), bid);
+                }
+                if (!inserted.isEmpty()) {
+                    pstmtInsert.executeBatch();
+                    try (ResultSet generatedKeys = pstmtInsert.getGeneratedKeys()) {
+                        for (int i = 0; i < inserted.size() && generatedKeys.next(); i++) {
+                            inserted.get(i).setBidId(generatedKeys.getInt(1));
+                        }
+                    }
+                }
+
+                for (Bid leading : leadingBidByAuction.values()) {
+                    pstmtUpdate.setBigDecimal(1, leading.getBidAmount());
+                    pstmtUpdate.setInt(2, leading.getBidderId());
+                    pstmtUpdate.setInt(3, leading.getAuctionId());
+                    pstmtUpdate.addBatch();
+                }
+                pstmtUpdate.executeBatch();
+
+                for (Bid ceiling : ceilingByAuction.values()) {
+                    bindCeiling(pstmtCeiling, ceiling);
+                    pstmtCeiling.addBatch();
+                }
+                pstmtCeiling.executeBatch();
+
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void write(PendingBid pending) {
+        SQLException lastError = null;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                persist(pending);
+                persistedCount++;
+                pending.ack.complete(pending.bid);
+                return;
+            } catch (SQLException e) {
+                lastError = e;
+                log.warn("Attempt {} to persist bid on auction {} failed: {}", attempt, pending.bid.getAuctionId(), e.getMessage());
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        pending.ack.completeExceptionally(lastError != null ? lastError : new SQLException("Bid write interrupted."));
+        (pending.ceiling ? onCeilingPersistFailure : onPersistFailure).accept(pending.bid);
+    }
+
+    private void persist(PendingBid pending) throws SQLException {
+        if (pending.ceiling) {
+            try (Connection conn = dbManager.getConnection();
+                 PreparedStatement pstmtCeiling = conn.prepareStatement(UPSERT_CEILING_SQL)) {
+                bindCeiling(pstmtCeiling, pending.bid);
+                pstmtCeiling.executeUpdate();
+            }
+            return;
+        }
+        Bid bid = pending.bid;
+        try (Connection conn = dbManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmtInsert = conn.prepareStatement(INSERT_BID_SQL, Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement pstmtUpdate = conn.prepareStatement(UPDATE_AUCTION_SQL)) {
+
+                pstmtInsert.setInt(1, bid.getAuctionId());
+                pstmtInsert.setInt(2, bid.getBidderId());
+                pstmtInsert.setBigDecimal(3, bid.getBidAmount());
+                pstmtInsert.setTimestamp(4, bid.getBidTime());
+                pstmtInsert.executeUpdate();
+                try (ResultSet generatedKeys = pstmtInsert.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        bid.setBidId(generatedKeys.getInt(1));
+                    }
+                }
+
+                pstmtUpdate.setBigDecimal(1, bid.getBidAmount());
+                pstmtUpdate.setInt(2, bid.getBidderId());
+                pstmtUpdate.setInt(3, bid.getAuctionId());
+                pstmtUpdate.executeUpdate();
+
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    void shutdown(long timeout, TimeUnit unit) {
+        running = false;
+        try {
+            writerThread.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error("{} accepted bids were not persisted before shutdown.", queue.size());
+        }
+        log.info("Persisted {} bids in {} write batches.", persistedCount, batchCount);
+    }
+
+    private static void bindCeiling(PreparedStatement pstmt, Bid ceiling) throws SQLException {
+        pstmt.setInt(1, ceiling.getAuctionId());
+        pstmt.setInt(2, ceiling.getBidderId());
+        pstmt.setBigDecimal(3, ceiling.getBidAmount());
+    }
+
+    private static class PendingBid {
+        private final Bid bid;
+        private final boolean ceiling;
+        private final CompletableFuture<Bid> ack;
+
+        private PendingBid(Bid bid, boolean ceiling, CompletableFuture<Bid> ack) {
+            this.bid = bid;
+            this.ceiling = ceiling;
+            this.ack = ack;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.university.auctionsystem.server.services;
 
 import com.university.auctionsystem.server.DatabaseManager;
+import com.university.auctionsystem.server.logging.Logger;
 import com.university.auctionsystem.shared.model.Item;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -10,8 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class ItemService {
+    private static final Logger log = Logger.getLogger(ItemService.class);
     private DatabaseManager dbManager;
     private AuctionService auctionService;
+    private SearchService searchService;
 
     public ItemService(DatabaseManager dbManager) {
         this.dbManager = dbManager;
@@ -21,15 +25,20 @@ public class ItemService {
         this.auctionService = auctionService;
     }
 
+    public void setSearchService(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
     public Item listItem(Item item) {
 
         if (item.getSellerId() <= 0) {
-            System.err.println("ItemService: Seller ID not set for item listing.");
+            log.warn("Seller ID not set for item listing.");
             return null;
         }
 
         String sql = "INSERT INTO items (seller_id, name, description, image_path, category, tags) VALUES (?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setInt(1, item.getSellerId());
             pstmt.setString(2, item.getName());
             pstmt.setString(3, item.getDescription());
@@ -39,22 +48,22 @@ public class ItemService {
 
             int affectedRows = pstmt.executeUpdate();
             if (affectedRows == 0) {
-                System.err.println("ItemService: Creating item failed, no rows affected.");
+                log.error("Creating item failed, no rows affected.");
                 return null;
             }
 
             try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
                 if (generatedKeys.next()) {
                     item.setItemId(generatedKeys.getInt(1));
+                    if (searchService != null) searchService.indexItem(item);
                     return item;
                 } else {
-                    System.err.println("ItemService: Creating item failed, no ID obtained.");
+                    log.error("Creating item failed, no ID obtained.");
                     return null;
                 }
             }
         } catch (SQLException e) {
-            System.err.println("ItemService SQL Error listing item: " + e.getMessage());
-            e.printStackTrace();
+            log.error("SQL error listing item", e);
             return null;
         }
     }
@@ -62,30 +71,30 @@ public class ItemService {
     public List<Item> getItemsBySellerId(int sellerId) {
         List<Item> items = new ArrayList<>();
         String sql = "SELECT item_id, seller_id, name, description, image_path, category, tags, created_at FROM items WHERE seller_id = ? ORDER BY created_at DESC";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, sellerId);
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
                 items.add(mapResultSetToItem(rs));
             }
         } catch (SQLException e) {
-            System.err.println("ItemService SQL Error getting items by seller ID: " + e.getMessage());
-            e.printStackTrace();
+            log.error("SQL error getting items for seller {}", sellerId, e);
         }
         return items;
     }
 
     public Item getItemById(int itemId) {
         String sql = "SELECT item_id, seller_id, name, description, image_path, category, tags, created_at FROM items WHERE item_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, itemId);
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) {
                 return mapResultSetToItem(rs);
             }
         } catch (SQLException e) {
-            System.err.println("ItemService SQL Error getting item by ID: " + e.getMessage());
-            e.printStackTrace();
+            log.error("SQL error getting item {}", itemId, e);
         }
         return null;
     }
@@ -105,26 +114,27 @@ public class ItemService {
 
     public boolean updateItem(Item itemToUpdate, int sellerId) {
         if (itemToUpdate == null || itemToUpdate.getItemId() <= 0) {
-            System.err.println("ItemService: Invalid item or item ID for update.");
+            log.warn("Invalid item or item ID for update.");
             return false;
         }
         Item currentItem = getItemById(itemToUpdate.getItemId());
         if (currentItem == null || currentItem.getSellerId() != sellerId) {
-            System.err.println("ItemService: Item " + itemToUpdate.getItemId() + " not found or does not belong to seller " + sellerId);
+            log.warn("Item {} not found or does not belong to seller {}", itemToUpdate.getItemId(), sellerId);
             return false;
         }
         if (this.auctionService == null) {
-            System.err.println("ItemService: AuctionService not set. Cannot check auction status for item update.");
+            log.error("AuctionService not set. Cannot check auction status for item update.");
             return false;
         }
         if (this.auctionService.isItemInActiveOrUpcomingAuction(itemToUpdate.getItemId())) {
-            System.err.println("ItemService: Item " + itemToUpdate.getItemId() + " is in an active or upcoming auction and cannot be edited.");
+            log.warn("Item {} is in an active or upcoming auction and cannot be edited.", itemToUpdate.getItemId());
             return false;
         }
 
         String sql = "UPDATE items SET name = ?, description = ?, image_path = ?, category = ?, tags = ? " +
                 "WHERE item_id = ? AND seller_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, itemToUpdate.getName());
             pstmt.setString(2, itemToUpdate.getDescription());
             pstmt.setString(3, itemToUpdate.getImagePath());
@@ -135,15 +145,16 @@ public class ItemService {
 
             int affectedRows = pstmt.executeUpdate();
             if (affectedRows > 0) {
-                System.out.println("ItemService: Item " + itemToUpdate.getItemId() + " updated successfully.");
+                log.info("Item {} updated.", itemToUpdate.getItemId());
+                itemToUpdate.setSellerId(sellerId);
+                if (searchService != null) searchService.indexItem(itemToUpdate);
                 return true;
             } else {
-                System.err.println("ItemService: Item " + itemToUpdate.getItemId() + " update failed (no rows affected or ownership mismatch).");
+                log.warn("Item {} update failed (no rows affected or ownership mismatch).", itemToUpdate.getItemId());
                 return false;
             }
         } catch (SQLException e) {
-            System.err.println("ItemService SQL Error updating item: " + e.getMessage());
-            e.printStackTrace();
+            log.error("SQL error updating item {}", itemToUpdate.getItemId(), e);
             return false;
         }
     }
@@ -1,17 +1,23 @@
 package com.university.auctionsystem.server.services;
 
 import com.university.auctionsystem.server.DatabaseManager;
+import com.university.auctionsystem.server.logging.Logger;
 import com.university.auctionsystem.shared.model.Message;
+import com.university.auctionsystem.shared.model.Page;
+import com.university.auctionsystem.shared.model.PageRequest;
 import com.university.auctionsystem.shared.model.User;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 
 public class MessageService {
+    private static final Logger log = Logger.getLogger(MessageService.class);
     private DatabaseManager dbManager;
     private UserService userService;
 
@@ -21,29 +27,25 @@ public class MessageService {
     }
 
     public Message sendMessage(Message message) {
-        System.out.println("MessageService: Attempting to send message. AuctionID: " + message.getAuctionId() +
-                ", SenderID: " + message.getSenderId() + ", ReceiverID: " + message.getReceiverId() +
-                ", Text: " + message.getMessageText());
+        log.debug("Sending message. AuctionID: {}, SenderID: {}, ReceiverID: {}", message.getAuctionId(), message.getSenderId(), message.getReceiverId());
 
         if (message.getAuctionId() <= 0 || message.getSenderId() <= 0 || message.getReceiverId() <= 0) {
-            System.err.println("MessageService: Invalid IDs provided. AuctionID: " + message.getAuctionId() +
-                    ", SenderID: " + message.getSenderId() + ", ReceiverID: " + message.getReceiverId());
+            log.warn("Invalid IDs provided. AuctionID: {}, SenderID: {}, ReceiverID: {}", message.getAuctionId(), message.getSenderId(), message.getReceiverId());
             return null;
         }
 
         String sql = "INSERT INTO messages (auction_id, sender_id, receiver_id, message_text) VALUES (?, ?, ?, ?)";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setInt(1, message.getAuctionId());
             pstmt.setInt(2, message.getSenderId());
             pstmt.setInt(3, message.getReceiverId());
             pstmt.setString(4, message.getMessageText());
 
-            System.out.println("MessageService: Executing insert: " + pstmt.toString());
             int affectedRows = pstmt.executeUpdate();
-            System.out.println("MessageService: Affected rows: " + affectedRows);
 
             if (affectedRows == 0) {
-                System.err.println("MessageService: Creating message failed, no rows affected.");
+                log.error("Creating message failed, no rows affected.");
                 return null;
             }
 
@@ -51,34 +53,30 @@ public class MessageService {
                 if (generatedKeys.next()) {
                     int newMessageId = generatedKeys.getInt(1);
                     message.setMessageId(newMessageId);
-                    System.out.println("MessageService: Message created with ID: " + newMessageId);
-
-                    User sender = userService.getUserById(message.getSenderId());
-                    if (sender != null) {
-                        message.setSenderUsername(sender.getUsername());
-                    } else {
-                        System.err.println("MessageService: Could not find sender username for ID: " + message.getSenderId());
-                    }
-                    User receiver = userService.getUserById(message.getReceiverId());
-                    if (receiver != null) {
-                        message.setReceiverUsername(receiver.getUsername());
-                    } else {
-                        System.err.println("MessageService: Could not find receiver username for ID: " + message.getReceiverId());
-                    }
-
-
-                    return message;
+                    log.debug("Message created with ID: {}", newMessageId);
                 } else {
-                    System.err.println("MessageService: Creating message failed, no ID obtained after insert.");
+                    log.error("Creating message failed, no ID obtained after insert.");
                     return null;
                 }
             }
         } catch (SQLException e) {
-            System.err.println("MessageService SQL Error sending message: " + e.getMessage() + " SQLState: " + e.getSQLState() + " ErrorCode: " + e.getErrorCode());
-            e.printStackTrace();
+            log.error("SQL error sending message. SQLState: {} ErrorCode: {}", e.getSQLState(), e.getErrorCode(), e);
+            return null;
+        }
+
+        User sender = userService.getUserById(message.getSenderId());
+        if (sender != null) {
+            message.setSenderUsername(sender.getUsername());
+        } else {
+            log.warn("Could not find sender username for ID: {}", message.getSenderId());
+        }
+        User receiver = userService.getUserById(message.getReceiverId());
+        if (receiver != null) {
+            message.setReceiverUsername(receiver.getUsername());
+        } else {
+            log.warn("Could not find receiver username for ID: {}", message.getReceiverId());
         }
-        System.err.println("MessageService: sendMessage returning null due to an issue.");
-        return null;
+        return message;
     }
 
     public List<Message> getMessagesForUser(int userId) {
@@ -91,39 +89,86 @@ public class MessageService {
                 "JOIN items i ON a.item_id = i.item_id " +
                 "WHERE m.sender_id = ? OR m.receiver_id = ? " +
                 "ORDER BY m.timestamp DESC";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             pstmt.setInt(2, userId);
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
-                Message msg = new Message();
-                msg.setMessageId(rs.getInt("message_id"));
-                msg.setAuctionId(rs.getInt("auction_id"));
-                msg.setSenderId(rs.getInt("sender_id"));
-                msg.setSenderUsername(rs.getString("sender_username"));
-                msg.setReceiverId(rs.getInt("receiver_id"));
-                msg.setReceiverUsername(rs.getString("receiver_username"));
-                msg.setMessageText(rs.getString("message_text"));
-                msg.setTimestamp(rs.getTimestamp("timestamp"));
-                msg.setRead(rs.getBoolean("is_read"));
-                msg.setAuctionItemName(rs.getString("item_name"));
-                messages.add(msg);
+                messages.add(mapResultSetToMessage(rs));
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load messages for user {}", userId, e);
         }
         return messages;
     }
 
+    public Page<Message> getMessagesForUserPage(int userId, PageRequest pageRequest) {
+        int limit = PageCursor.limitOf(pageRequest);
+        String[] after = PageCursor.decode(pageRequest, "messages", 2);
+        String sql = "SELECT m.*, s.username as sender_username, r.username as receiver_username, i.name as item_name " +
+                "FROM messages m " +
+                "JOIN users s ON m.sender_id = s.user_id " +
+                "JOIN users r ON m.receiver_id = r.user_id " +
+                "JOIN auctions a ON m.auction_id = a.auction_id " +
+                "JOIN items i ON a.item_id = i.item_id " +
+                "WHERE (m.sender_id = ? OR m.receiver_id = ?) " +
+                (after != null ? "AND (m.timestamp < ? OR (m.timestamp = ? AND m.message_id < ?)) " : "") +
+                "ORDER BY m.timestamp DESC, m.message_id DESC LIMIT ?";
+        List<Message> messages = new ArrayList<>();
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            pstmt.setInt(index++, userId);
+            pstmt.setInt(index++, userId);
+            if (after != null) {
+                Timestamp sentAt = new Timestamp(Long.parseLong(after[0]));
+                pstmt.setTimestamp(index++, sentAt);
+                pstmt.setTimestamp(index++, sentAt);
+                pstmt.setInt(index++, Integer.parseInt(after[1]));
+            }
+            pstmt.setInt(index, limit + 1);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                messages.add(mapResultSetToMessage(rs));
+            }
+        } catch (SQLException e) {
+            log.error("Could not load messages page for user {}", userId, e);
+        }
+        String nextCursor = null;
+        if (messages.size() > limit) {
+            messages.remove(limit);
+            Message last = messages.get(limit - 1);
+            nextCursor = PageCursor.encode("messages", last.getTimestamp().getTime(), last.getMessageId());
+        }
+        return new Page<>(messages, nextCursor);
+    }
+
+    private Message mapResultSetToMessage(ResultSet rs) throws SQLException {
+        Message msg = new Message();
+        msg.setMessageId(rs.getInt("message_id"));
+        msg.setAuctionId(rs.getInt("auction_id"));
+        msg.setSenderId(rs.getInt("sender_id"));
+        msg.setSenderUsername(rs.getString("sender_username"));
+        msg.setReceiverId(rs.getInt("receiver_id"));
+        msg.setReceiverUsername(rs.getString("receiver_username"));
+        msg.setMessageText(rs.getString("message_text"));
+        msg.setTimestamp(rs.getTimestamp("timestamp"));
+        msg.setRead(rs.getBoolean("is_read"));
+        msg.setAuctionItemName(rs.getString("item_name"));
+        return msg;
+    }
+
     public boolean markMessageAsRead(int messageId, int userId) {
         String sql = "UPDATE messages SET is_read = TRUE WHERE message_id = ? AND receiver_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, messageId);
             pstmt.setInt(2, userId);
             int affectedRows = pstmt.executeUpdate();
             return affectedRows > 0;
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not mark message {} as read for user {}", messageId, userId, e);
         }
         return false;
     }
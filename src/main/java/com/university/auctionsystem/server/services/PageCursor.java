@@ -0,0 +1,48 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.shared.model.PageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+final class PageCursor {
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 200;
+    private static final String SEPARATOR = "|";
+
+    private PageCursor() {}
+
+    static int limitOf(PageRequest request) {
+        if (request == null || request.getLimit() <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(request.getLimit(), MAX_LIMIT);
+    }
+
+    static String encode(String kind, Object... keys) {
+        StringBuilder raw = new StringBuilder(kind);
+        for (Object key : keys) {
+            raw.append(SEPARATOR).append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decode(PageRequest request, String kind, int keyCount) {
+        if (request == null || request.getCursor() == null || request.getCursor().isEmpty()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(request.getCursor()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor.");
+        }
+        String[] parts = raw.split("\\|", keyCount + 1);
+        if (parts.length != keyCount + 1 || !kind.equals(parts[0])) {
+            throw new IllegalArgumentException("Invalid page cursor.");
+        }
+        String[] keys = new String[keyCount];
+        System.arraycopy(parts, 1, keys, 0, keyCount);
+        return keys;
+    }
+}
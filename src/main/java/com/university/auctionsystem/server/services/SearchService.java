@@ -0,0 +1,437 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.server.DatabaseManager;
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.model.Item;
+import com.university.auctionsystem.shared.model.SearchQuery;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public class SearchService {
+    private static final Logger log = Logger.getLogger(SearchService.class);
+    private static final int NAME_WEIGHT = 4;
+    private static final int TAGS_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final DatabaseManager dbManager;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    private final Map<Integer, Item> items = new HashMap<>();
+    private final Map<Integer, Set<String>> tokensByItem = new HashMap<>();
+    private final Map<Integer, Auction> auctions = new HashMap<>();
+    private final Map<Integer, List<Auction>> auctionsByItem = new HashMap<>();
+    private volatile Consumer<Auction> liveStateOverlay = auction -> { };
+
+    public SearchService(DatabaseManager dbManager) {
+        this.dbManager = dbManager;
+    }
+
+    void setLiveStateOverlay(Consumer<Auction> liveStateOverlay) {
+        this.liveStateOverlay = liveStateOverlay;
+    }
+
+    public void rebuild() {
+        String sqlItems = "SELECT item_id, seller_id, name, description, image_path, category, tags, created_at FROM items";
+        String sqlAuctions = "SELECT auction_id, item_id, start_time, end_time, start_price, reserve_price, current_highest_bid, " +
+                "winning_bidder_id, status, payment_status, created_at FROM auctions";
+        long started = System.nanoTime();
+        List<Item> loadedItems = new ArrayList<>();
+        List<Auction> loadedAuctions = new ArrayList<>();
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmtItems = conn.prepareStatement(sqlItems);
+             PreparedStatement pstmtAuctions = conn.prepareStatement(sqlAuctions)) {
+            ResultSet rs = pstmtItems.executeQuery();
+            while (rs.next()) {
+                Item item = new Item();
+                item.setItemId(rs.getInt("item_id"));
+                item.setSellerId(rs.getInt("seller_id"));
+                item.setName(rs.getString("name"));
+                item.setDescription(rs.getString("description"));
+                item.setImagePath(rs.getString("image_path"));
+                item.setCategory(rs.getString("category"));
+                item.setTags(rs.getString("tags"));
+                item.setCreatedAt(rs.getTimestamp("created_at"));
+                loadedItems.add(item);
+            }
+            rs = pstmtAuctions.executeQuery();
+            while (rs.next()) {
+                Auction auction = new Auction();
+                auction.setAuctionId(rs.getInt("auction_id"));
+                auction.setItemId(rs.getInt("item_id"));
+                auction.setStartTime(rs.getTimestamp("start_time"));
+                auction.setEndTime(rs.getTimestamp("end_time"));
+                auction.setStartPrice(rs.getBigDecimal("start_price"));
+                auction.setReservePrice(rs.getBigDecimal("reserve_price"));
+                auction.setCurrentHighestBid(rs.getBigDecimal("current_highest_bid"));
+                auction.setWinningBidderId(rs.getInt("winning_bidder_id"));
+                auction.setStatus(Auction.AuctionStatus.valueOf(rs.getString("status")));
+                String paymentStatus = rs.getString("payment_status");
+                auction.setPaymentStatus(paymentStatus != null ? Auction.PaymentStatus.valueOf(paymentStatus) : Auction.PaymentStatus.PENDING);
+                auction.setCreatedAt(rs.getTimestamp("created_at"));
+                loadedAuctions.add(auction);
+            }
+        } catch (SQLException e) {
+            log.error("Could not build search index: {}", e.getMessage());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            items.clear();
+            tokensByItem.clear();
+            auctions.clear();
+            auctionsByItem.clear();
+            for (Item item : loadedItems) {
+                putItem(item);
+            }
+            for (Auction auction : loadedAuctions) {
+                putAuction(auction);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} items ({} terms) and {} auctions in {} ms.",
+                loadedItems.size(), postings.size(), loadedAuctions.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void indexItem(Item item) {
+        if (item == null || item.getItemId() <= 0) return;
+        lock.writeLock().lock();
+        try {
+            Item existing = items.get(item.getItemId());
+            Item copy = copyOf(item);
+            if (existing != null) {
+                if (copy.getSellerId() <= 0) copy.setSellerId(existing.getSellerId());
+                if (copy.getCreatedAt() == null) copy.setCreatedAt(existing.getCreatedAt());
+            }
+            putItem(copy);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexAuction(Auction auction) {
+        if (auction == null || auction.getAuctionId() <= 0) return;
+        lock.writeLock().lock();
+        try {
+            putAuction(auction);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAuction(int auctionId) {
+        lock.writeLock().lock();
+        try {
+            Auction removed = auctions.remove(auctionId);
+            if (removed != null) {
+                unlinkAuction(removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Auction> searchAuctions(SearchQuery query) {
+        List<String> terms = tokenize(query.getText());
+        long now = System.currentTimeMillis();
+        int pageSize = pageSizeOf(query);
+        int skip = Math.max(0, query.getPage()) * pageSize;
+        List<Auction> page = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<ScoredAuction> candidates = new ArrayList<>();
+            Map<Integer, Double> itemScores = terms.isEmpty() ? null : scoreItems(terms);
+            if (itemScores == null) {
+                for (Map.Entry<Integer, List<Auction>> itemAuctions : auctionsByItem.entrySet()) {
+                    collectCandidates(itemAuctions.getKey(), 0, query, now, candidates);
+                }
+            } else {
+                for (Map.Entry<Integer, Double> scored : itemScores.entrySet()) {
+                    collectCandidates(scored.getKey(), scored.getValue(), query, now, candidates);
+                }
+            }
+            candidates.sort(Comparator.comparingDouble((ScoredAuction match) -> -match.score)
+                    .thenComparingLong(match -> match.auction.getEndTime() != null ? match.auction.getEndTime().getTime() : Long.MAX_VALUE)
+                    .thenComparingInt(match -> match.auction.getAuctionId()));
+
+            for (ScoredAuction candidate : candidates) {
+                Auction result = withLiveState(candidate.auction);
+                if (!priceMatches(result, query)) continue;
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                page.add(result);
+                if (page.size() == pageSize) break;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return page;
+    }
+
+    public List<Item> searchItems(SearchQuery query) {
+        List<String> terms = tokenize(query.getText());
+        List<Item> matches = new ArrayList<>();
+        Map<Integer, Double> itemScores;
+        lock.readLock().lock();
+        try {
+            itemScores = terms.isEmpty() ? null : scoreItems(terms);
+            if (itemScores == null) {
+                for (Item item : items.values()) {
+                    if (categoryMatches(item, query)) matches.add(copyOf(item));
+                }
+            } else {
+                for (int itemId : itemScores.keySet()) {
+                    Item item = items.get(itemId);
+                    if (item != null && categoryMatches(item, query)) matches.add(copyOf(item));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Map<Integer, Double> scores = itemScores;
+        matches.sort(Comparator.comparingDouble((Item item) -> scores != null ? -scores.getOrDefault(item.getItemId(), 0.0) : 0.0)
+                .thenComparingInt(Item::getItemId));
+
+        int pageSize = pageSizeOf(query);
+        int from = Math.max(0, query.getPage()) * pageSize;
+        if (from >= matches.size()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(matches.subList(from, Math.min(from + pageSize, matches.size())));
+    }
+
+    private void collectCandidates(int itemId, double score, SearchQuery query, long now, List<ScoredAuction> candidates) {
+        List<Auction> itemAuctions = auctionsByItem.get(itemId);
+        if (itemAuctions == null) return;
+        Item item = items.get(itemId);
+        if (item == null || !categoryMatches(item, query)) return;
+        for (Auction indexed : itemAuctions) {
+            if (query.getStatus() != null && indexed.getStatus() != query.getStatus()) continue;
+            if (query.getEndingWithinMillis() > 0) {
+                if (indexed.getEndTime() == null) continue;
+                long remaining = indexed.getEndTime().getTime() - now;
+                if (remaining <= 0 || remaining > query.getEndingWithinMillis()) continue;
+            }
+            candidates.add(new ScoredAuction(indexed, score));
+        }
+    }
+
+    private Auction withLiveState(Auction indexed) {
+        Auction result = copyOf(indexed);
+        result.setItem(copyOf(items.get(indexed.getItemId())));
+        liveStateOverlay.accept(result);
+        return result;
+    }
+
+    private static boolean priceMatches(Auction auction, SearchQuery query) {
+        BigDecimal price = auction.getCurrentHighestBid() != null ? auction.getCurrentHighestBid() : auction.getStartPrice();
+        if (query.getMinPrice() != null && (price == null || price.compareTo(query.getMinPrice()) < 0)) return false;
+        if (query.getMaxPrice() != null && (price == null || price.compareTo(query.getMaxPrice()) > 0)) return false;
+        return true;
+    }
+
+    private Map<Integer, Double> scoreItems(List<String> terms) {
+        int documentCount = Math.max(1, items.size());
+        List<TermMatch> matches = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            TermMatch match = new TermMatch();
+            if (i == terms.size() - 1) {
+                for (Map.Entry<String, Map<Integer, Integer>> posting : postings.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+                    match.add(posting.getValue(), Math.log(1.0 + (double) documentCount / posting.getValue().size()) * (posting.getKey().equals(term) ? 1.0 : 0.5));
+                }
+            } else {
+                Map<Integer, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    match.add(posting, Math.log(1.0 + (double) documentCount / posting.size()));
+                }
+            }
+            if (match.documentFrequency == 0) {
+                return Map.of();
+            }
+            matches.add(match);
+        }
+        matches.sort(Comparator.comparingInt(match -> match.documentFrequency));
+
+        TermMatch rarest = matches.get(0);
+        Map<Integer, Double> result = new HashMap<>(rarest.documentFrequency * 2);
+        for (int p = 0; p < rarest.postings.size(); p++) {
+            double idf = rarest.idfs.get(p);
+            for (Map.Entry<Integer, Integer> hit : rarest.postings.get(p).entrySet()) {
+                result.merge(hit.getKey(), hit.getValue() * idf, Math::max);
+            }
+        }
+        for (int m = 1; m < matches.size() && !result.isEmpty(); m++) {
+            TermMatch match = matches.get(m);
+            Iterator<Map.Entry<Integer, Double>> iterator = result.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Integer, Double> scored = iterator.next();
+                double termScore = match.scoreFor(scored.getKey());
+                if (termScore > 0) {
+                    scored.setValue(scored.getValue() + termScore);
+                } else {
+                    iterator.remove();
+                }
+            }
+        }
+        return result;
+    }
+
+    private void putItem(Item item) {
+        Set<String> previousTokens = tokensByItem.remove(item.getItemId());
+        if (previousTokens != null) {
+            for (String token : previousTokens) {
+                Map<Integer, Integer> posting = postings.get(token);
+                if (posting != null) {
+                    posting.remove(item.getItemId());
+                    if (posting.isEmpty()) postings.remove(token);
+                }
+            }
+        }
+
+        Map<String, Integer> weights = new HashMap<>();
+        addWeights(weights, item.getName(), NAME_WEIGHT);
+        addWeights(weights, item.getTags(), TAGS_WEIGHT);
+        addWeights(weights, item.getCategory(), CATEGORY_WEIGHT);
+        addWeights(weights, item.getDescription(), DESCRIPTION_WEIGHT);
+        for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+            postings.computeIfAbsent(weight.getKey(), k -> new HashMap<>()).put(item.getItemId(), weight.getValue());
+        }
+        tokensByItem.put(item.getItemId(), new HashSet<>(weights.keySet()));
+        items.put(item.getItemId(), item);
+    }
+
+    private void putAuction(Auction auction) {
+        Auction copy = copyOf(auction);
+        Auction previous = auctions.put(copy.getAuctionId(), copy);
+        if (previous != null) {
+            unlinkAuction(previous);
+        }
+        auctionsByItem.computeIfAbsent(copy.getItemId(), k -> new ArrayList<>(1)).add(copy);
+        if (auction.getItem() != null && auction.getItem().getName() != null && !items.containsKey(copy.getItemId())) {
+            putItem(copyOf(auction.getItem()));
+        }
+    }
+
+    private void unlinkAuction(Auction indexed) {
+        List<Auction> siblings = auctionsByItem.get(indexed.getItemId());
+        if (siblings != null) {
+            siblings.removeIf(sibling -> sibling.getAuctionId() == indexed.getAuctionId());
+            if (siblings.isEmpty()) auctionsByItem.remove(indexed.getItemId());
+        }
+    }
+
+    private static void addWeights(Map<String, Integer> weights, String text, int weight) {
+        for (String token : tokenize(text)) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (token.length() >= 2 || (!token.isEmpty() && Character.isDigit(token.charAt(0)))) {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private static boolean categoryMatches(Item item, SearchQuery query) {
+        return query.getCategory() == null || query.getCategory().isBlank() || query.getCategory().equalsIgnoreCase(item.getCategory());
+    }
+
+    private static int pageSizeOf(SearchQuery query) {
+        return query.getPageSize() <= 0 ? 20 : Math.min(query.getPageSize(), MAX_PAGE_SIZE);
+    }
+
+    private static Item copyOf(Item item) {
+        Item copy = new Item();
+        copy.setItemId(item.getItemId());
+        copy.setSellerId(item.getSellerId());
+        copy.setName(item.getName());
+        copy.setDescription(item.getDescription());
+        copy.setImagePath(item.getImagePath());
+        copy.setCategory(item.getCategory());
+        copy.setTags(item.getTags());
+        copy.setCreatedAt(item.getCreatedAt());
+        return copy;
+    }
+
+    private static Auction copyOf(Auction auction) {
+        Auction copy = new Auction();
+        copy.setAuctionId(auction.getAuctionId());
+        copy.setItemId(auction.getItemId());
+        copy.setStartTime(auction.getStartTime());
+        copy.setEndTime(auction.getEndTime());
+        copy.setStartPrice(auction.getStartPrice());
+        copy.setReservePrice(auction.getReservePrice());
+        copy.setCurrentHighestBid(auction.getCurrentHighestBid());
+        copy.setWinningBidderId(auction.getWinningBidderId());
+        copy.setStatus(auction.getStatus());
+        copy.setPaymentStatus(auction.getPaymentStatus());
+        copy.setCreatedAt(auction.getCreatedAt());
+        return copy;
+    }
+
+    private static class TermMatch {
+        private final List<Map<Integer, Integer>> postings = new ArrayList<>();
+        private final List<Double> idfs = new ArrayList<>();
+        private int documentFrequency;
+
+        private void add(Map<Integer, Integer> posting, double idf) {
+            postings.add(posting);
+            idfs.add(idf);
+            documentFrequency += posting.size();
+        }
+
+        private double scoreFor(int itemId) {
+            double best = 0;
+            for (int p = 0; p < postings.size(); p++) {
+                Integer weight = postings.get(p).get(itemId);
+                if (weight != null) {
+                    best = Math.max(best, weight * idfs.get(p));
+                }
+            }
+            return best;
+        }
+    }
+
+    private static class ScoredAuction {
+        private final Auction auction;
+        private final double score;
+
+        private ScoredAuction(Auction auction, double score) {
+            this.auction = auction;
+            this.score = score;
+        }
+    }
+}
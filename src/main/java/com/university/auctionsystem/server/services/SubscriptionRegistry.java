@@ -0,0 +1,109 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.server.ClientHandler;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+class SubscriptionRegistry {
+    private final Map<Integer, Set<ClientHandler>> subscribersByAuction = new ConcurrentHashMap<>();
+    private final Map<ClientHandler, Set<Integer>> auctionsBySubscriber = new ConcurrentHashMap<>();
+    private final AtomicLong subscriptionCount = new AtomicLong();
+
+    boolean subscribe(int auctionId, ClientHandler handler) {
+        boolean[] added = new boolean[1];
+        subscribersByAuction.compute(auctionId, (id, subscribers) -> {
+            if (subscribers == null) {
+                subscribers = ConcurrentHashMap.newKeySet();
+            }
+            added[0] = subscribers.add(handler);
+            return subscribers;
+        });
+        if (!added[0]) {
+            return false;
+        }
+        subscriptionCount.incrementAndGet();
+        auctionsBySubscriber.compute(handler, (subscriber, auctionIds) -> {
+            if (auctionIds == null) {
+                auctionIds = ConcurrentHashMap.newKeySet();
+            }
+            auctionIds.add(auctionId);
+            return auctionIds;
+        });
+        if (!handler.isRunning()) {
+            unsubscribeAll(handler);
+        }
+        return true;
+    }
+
+    boolean unsubscribe(int auctionId, ClientHandler handler) {
+        boolean removed = removeSubscriber(auctionId, handler);
+        auctionsBySubscriber.computeIfPresent(handler, (subscriber, auctionIds) -> {
+            auctionIds.remove(auctionId);
+            return auctionIds.isEmpty() ? null : auctionIds;
+        });
+        return removed;
+    }
+
+    int unsubscribeAll(ClientHandler handler) {
+        Set<Integer> auctionIds = auctionsBySubscriber.remove(handler);
+        if (auctionIds == null) {
+            return 0;
+        }
+        int removed = 0;
+        for (Integer auctionId : auctionIds) {
+            if (removeSubscriber(auctionId, handler)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    int removeAuction(int auctionId) {
+        Set<ClientHandler> subscribers = subscribersByAuction.remove(auctionId);
+        if (subscribers == null) {
+            return 0;
+        }
+        subscriptionCount.addAndGet(-subscribers.size());
+        for (ClientHandler handler : subscribers) {
+            auctionsBySubscriber.computeIfPresent(handler, (subscriber, auctionIds) -> {
+                auctionIds.remove(auctionId);
+                return auctionIds.isEmpty() ? null : auctionIds;
+            });
+        }
+        return subscribers.size();
+    }
+
+    Collection<ClientHandler> subscribersOf(int auctionId) {
+        Set<ClientHandler> subscribers = subscribersByAuction.get(auctionId);
+        return subscribers != null ? subscribers : Collections.emptySet();
+    }
+
+    int getAuctionCount() {
+        return subscribersByAuction.size();
+    }
+
+    int getSubscriberCount() {
+        return auctionsBySubscriber.size();
+    }
+
+    long getSubscriptionCount() {
+        return subscriptionCount.get();
+    }
+
+    private boolean removeSubscriber(int auctionId, ClientHandler handler) {
+        boolean[] removed = new boolean[1];
+        subscribersByAuction.computeIfPresent(auctionId, (id, subscribers) -> {
+            removed[0] = subscribers.remove(handler);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        if (removed[0]) {
+            subscriptionCount.decrementAndGet();
+        }
+        return removed[0];
+    }
+}
@@ -0,0 +1,127 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.shared.metrics.LatencyHistogram;
+import com.university.auctionsystem.shared.model.Auction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+class UpdateConflator {
+    private static final Logger log = Logger.getLogger(UpdateConflator.class);
+    private final long tickMillis;
+    private final Consumer<Auction> publisher;
+    private final LongConsumer durabilityBarrier;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<Integer, PendingUpdate> latestByAuction = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> firstSubmittedNanos = new ConcurrentHashMap<>();
+    private final LatencyHistogram publishLag = new LatencyHistogram();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private volatile long lastFlushMillis = 0;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+
+    UpdateConflator(long tickMillis, Consumer<Auction> publisher, LongConsumer durabilityBarrier) {
+        this.tickMillis = tickMillis;
+        this.publisher = publisher;
+        this.durabilityBarrier = durabilityBarrier;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "AuctionBroadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void submit(Auction auction) {
+        submit(auction, 0);
+    }
+
+    void submit(Auction auction, long journalSequence) {
+        submitted.incrementAndGet();
+        firstSubmittedNanos.putIfAbsent(auction.getAuctionId(), System.nanoTime());
+        latestByAuction.merge(auction.getAuctionId(), new PendingUpdate(auction, journalSequence), UpdateConflator::newer);
+        if (flushScheduled.compareAndSet(false, true)) {
+            long delay = Math.max(0, lastFlushMillis + tickMillis - System.currentTimeMillis());
+            try {
+                executor.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                flushScheduled.set(false);
+                log.error("Could not schedule flush: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        lastFlushMillis = System.currentTimeMillis();
+        for (Integer auctionId : latestByAuction.keySet()) {
+            PendingUpdate pending = latestByAuction.remove(auctionId);
+            Long submittedAt = firstSubmittedNanos.remove(auctionId);
+            if (pending == null) {
+                continue;
+            }
+            if (pending.journalSequence > 0) {
+                durabilityBarrier.accept(pending.journalSequence);
+            }
+            Auction latest = pending.auction;
+            published.incrementAndGet();
+            if (submittedAt != null) {
+                publishLag.record(System.nanoTime() - submittedAt);
+            }
+            try {
+                publisher.accept(latest);
+            } catch (RuntimeException e) {
+                log.error("Publishing auction {} failed", auctionId, e);
+            }
+        }
+    }
+
+    // Callers submit under the auction's bid lock, so arrival order is state order, except that an
+    // ended or cancelled snapshot must not be replaced by a live one still in flight.
+    private static PendingUpdate newer(PendingUpdate queued, PendingUpdate incoming) {
+        return isFinal(queued.auction) && !isFinal(incoming.auction) ? queued : incoming;
+    }
+
+    private static boolean isFinal(Auction auction) {
+        return auction.getStatus() == Auction.AuctionStatus.ENDED || auction.getStatus() == Auction.AuctionStatus.CANCELLED;
+    }
+
+    long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    long getPublishedCount() {
+        return published.get();
+    }
+
+    LatencyHistogram getPublishLag() {
+        return publishLag;
+    }
+
+    void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private static class PendingUpdate {
+        private final Auction auction;
+        private final long journalSequence;
+
+        private PendingUpdate(Auction auction, long journalSequence) {
+            this.auction = auction;
+            this.journalSequence = journalSequence;
+        }
+    }
+}
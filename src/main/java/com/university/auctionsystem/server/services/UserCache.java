@@ -0,0 +1,113 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.shared.model.User;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+class UserCache {
+    private static final int GENERATION_STRIPES = 256;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<Integer, CachedUser> entries;
+    private final long[] generations = new long[GENERATION_STRIPES];
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    UserCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedUser> eldest) {
+                if (size() > UserCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    User get(int userId) {
+        CachedUser cached;
+        synchronized (this) {
+            cached = entries.get(userId);
+            if (cached != null && System.currentTimeMillis() - cached.loadedAt > ttlMillis) {
+                entries.remove(userId);
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return copyOf(cached.user);
+    }
+
+    synchronized long generation(int userId) {
+        return generations[stripe(userId)];
+    }
+
+    void put(User user, long loadedAtGeneration) {
+        if (user == null || maxSize <= 0) return;
+        CachedUser cached = new CachedUser(copyOf(user), System.currentTimeMillis());
+        synchronized (this) {
+            if (generations[stripe(user.getUserId())] == loadedAtGeneration) {
+                entries.put(user.getUserId(), cached);
+            }
+        }
+    }
+
+    synchronized void invalidate(int userId) {
+        generations[stripe(userId)]++;
+        entries.remove(userId);
+    }
+
+    private static int stripe(int userId) {
+        return Math.floorMod(userId, GENERATION_STRIPES);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    long getHits() { return hits.get(); }
+    long getMisses() { return misses.get(); }
+    long getEvictions() { return evictions.get(); }
+
+    double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+
+    String getStatsSummary() {
+        return String.format("size=%d max=%d hits=%d misses=%d evictions=%d hitRatio=%.3f",
+                size(), maxSize, getHits(), getMisses(), getEvictions(), getHitRatio());
+    }
+
+    private static User copyOf(User user) {
+        User copy = new User();
+        copy.setUserId(user.getUserId());
+        copy.setUsername(user.getUsername());
+        copy.setEmail(user.getEmail());
+        copy.setRole(user.getRole());
+        copy.setCreatedAt(user.getCreatedAt());
+        return copy;
+    }
+
+    private static class CachedUser {
+        private final User user;
+        private final long loadedAt;
+
+        private CachedUser(User user, long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
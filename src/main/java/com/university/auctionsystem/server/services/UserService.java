@@ -1,9 +1,13 @@
 package com.university.auctionsystem.server.services;
 
 import com.university.auctionsystem.server.DatabaseManager;
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.shared.model.Page;
+import com.university.auctionsystem.shared.model.PageRequest;
 import com.university.auctionsystem.shared.model.User;
 import com.university.auctionsystem.shared.model.Role;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -12,7 +16,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class UserService {
+    private static final Logger log = Logger.getLogger(UserService.class);
+    private static final int USER_CACHE_SIZE = Integer.getInteger("auction.userCache.maxSize", 10_000);
+    private static final long USER_CACHE_TTL_MILLIS = Long.getLong("auction.userCache.ttlSeconds", 300) * 1000;
+
     private DatabaseManager dbManager;
+    private final UserCache userCache = new UserCache(USER_CACHE_SIZE, USER_CACHE_TTL_MILLIS);
 
     public UserService(DatabaseManager dbManager) {
         this.dbManager = dbManager;
@@ -23,7 +32,8 @@ public class UserService {
         String pseudoHashedPassword = new StringBuilder(user.getPasswordHash()).reverse().toString();
 
         String sql = "INSERT INTO users (username, password_hash, email, role) VALUES (?, ?, ?, ?)";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setString(1, user.getUsername());
             pstmt.setString(2, pseudoHashedPassword);
             pstmt.setString(3, user.getEmail());
@@ -44,7 +54,7 @@ public class UserService {
                 }
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not register user {}", user.getUsername(), e);
             return null;
         }
     }
@@ -52,7 +62,8 @@ public class UserService {
     public User loginUser(String username, String password) {
         String pseudoHashedPassword = new StringBuilder(password).reverse().toString();
         String sql = "SELECT user_id, username, email, role, created_at FROM users WHERE username = ? AND password_hash = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, username);
             pstmt.setString(2, pseudoHashedPassword);
             ResultSet rs = pstmt.executeQuery();
@@ -67,14 +78,26 @@ public class UserService {
                 return user;
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not log in user {}", username, e);
         }
         return null;
     }
 
     public User getUserById(int userId) {
+        User cached = userCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = userCache.generation(userId);
+        User user = loadUserById(userId);
+        userCache.put(user, generation);
+        return user;
+    }
+
+    private User loadUserById(int userId) {
         String sql = "SELECT user_id, username, email, role, created_at FROM users WHERE user_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             ResultSet rs = pstmt.executeQuery();
 
@@ -88,11 +111,15 @@ public class UserService {
                 return user;
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load user {}", userId, e);
         }
         return null;
     }
 
+    public String getUserCacheStats() {
+        return userCache.getStatsSummary();
+    }
+
     public User getUserProfile(int userId) {
         return getUserById(userId);
     }
@@ -102,16 +129,18 @@ public class UserService {
             return false;
         }
         String sql = "UPDATE users SET email = ? WHERE user_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, newEmail.trim());
             pstmt.setInt(2, userId);
             int affectedRows = pstmt.executeUpdate();
+            userCache.invalidate(userId);
             return affectedRows > 0;
         } catch (SQLException e) {
             if (e.getMessage().toLowerCase().contains("duplicate entry") && e.getMessage().toLowerCase().contains("email")) {
-                System.err.println("UserService: Attempt to update to an already existing email.");
+                log.warn("User {} tried to update to an already existing email.", userId);
             } else {
-                e.printStackTrace();
+                log.error("Could not update profile for user {}", userId, e);
             }
             return false;
         }
@@ -120,7 +149,8 @@ public class UserService {
     public List<User> getAllUsers() {
         List<User> users = new ArrayList<>();
         String sql = "SELECT user_id, username, email, role, created_at FROM users ORDER BY username ASC";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             ResultSet rs = pstmt.executeQuery();
             while (rs.next()) {
                 User user = new User();
@@ -132,53 +162,102 @@ public class UserService {
                 users.add(user);
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            log.error("Could not load users", e);
         }
         return users;
     }
 
+    public Page<User> getAllUsersPage(PageRequest pageRequest) {
+        int limit = PageCursor.limitOf(pageRequest);
+        String[] after = PageCursor.decode(pageRequest, "users", 2);
+        String sql = "SELECT user_id, username, email, role, created_at FROM users " +
+                (after != null ? "WHERE username > ? OR (username = ? AND user_id > ?) " : "") +
+                "ORDER BY username ASC, user_id ASC LIMIT ?";
+        List<User> users = new ArrayList<>();
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (after != null) {
+                pstmt.setString(index++, after[1]);
+                pstmt.setString(index++, after[1]);
+                pstmt.setInt(index++, Integer.parseInt(after[0]));
+            }
+            pstmt.setInt(index, limit + 1);
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                User user = new User();
+                user.setUserId(rs.getInt("user_id"));
+                user.setUsername(rs.getString("username"));
+                user.setEmail(rs.getString("email"));
+                user.setRole(Role.valueOf(rs.getString("role")));
+                user.setCreatedAt(rs.getTimestamp("created_at"));
+                users.add(user);
+            }
+        } catch (SQLException e) {
+            log.error("Could not load users page", e);
+        }
+        String nextCursor = null;
+        if (users.size() > limit) {
+            users.remove(limit);
+            User last = users.get(limit - 1);
+            nextCursor = PageCursor.encode("users", last.getUserId(), last.getUsername());
+        }
+        return new Page<>(users, nextCursor);
+    }
+
     public boolean deleteUserAsAdmin(int userIdToDelete) {
         User user = getUserById(userIdToDelete);
         if (user == null) {
-            System.err.println("UserService: Cannot delete. User ID " + userIdToDelete + " not found.");
+            log.warn("Cannot delete. User {} not found.", userIdToDelete);
             return false;
         }
         if (user.getRole() == Role.ADMIN) {
-            System.err.println("UserService: Deleting Admin users is restricted through this method.");
+            log.warn("Deleting Admin users is restricted through this method.");
             return false;
         }
         String deleteMessagesSql = "DELETE FROM messages WHERE sender_id = ? OR receiver_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(deleteMessagesSql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(deleteMessagesSql)) {
             pstmt.setInt(1, userIdToDelete);
             pstmt.setInt(2, userIdToDelete);
             pstmt.executeUpdate();
-            System.out.println("UserService: Deleted messages for user ID " + userIdToDelete);
+            log.info("Deleted messages for user {}", userIdToDelete);
+        } catch (SQLException e) {
+            log.error("Error deleting messages for user {}: {}", userIdToDelete, e.getMessage());
+        }
+        String deleteCeilingsSql = "DELETE FROM proxy_ceilings WHERE bidder_id = ?";
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(deleteCeilingsSql)) {
+            pstmt.setInt(1, userIdToDelete);
+            pstmt.executeUpdate();
         } catch (SQLException e) {
-            System.err.println("UserService: Error deleting messages for user " + userIdToDelete + ": " + e.getMessage());
+            log.error("Error deleting automatic bid ceilings for user {}: {}", userIdToDelete, e.getMessage());
         }
         String deleteBidsSql = "DELETE FROM bids WHERE bidder_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(deleteBidsSql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(deleteBidsSql)) {
             pstmt.setInt(1, userIdToDelete);
             pstmt.executeUpdate();
-            System.out.println("UserService: Deleted bids for user ID " + userIdToDelete);
+            log.info("Deleted bids for user {}", userIdToDelete);
         } catch (SQLException e) {
-            System.err.println("UserService: Error deleting bids for user " + userIdToDelete + ": " + e.getMessage());
+            log.error("Error deleting bids for user {}: {}", userIdToDelete, e.getMessage());
         }
 
         String sql = "DELETE FROM users WHERE user_id = ?";
-        try (PreparedStatement pstmt = dbManager.getPreparedStatement(sql)) {
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userIdToDelete);
             int affectedRows = pstmt.executeUpdate();
+            userCache.invalidate(userIdToDelete);
             if (affectedRows > 0) {
-                System.out.println("UserService: User ID " + userIdToDelete + " deleted successfully by admin.");
+                log.info("User {} deleted by admin.", userIdToDelete);
                 return true;
             } else {
-                System.err.println("UserService: Deleting user ID " + userIdToDelete + " failed, no rows affected.");
+                log.warn("Deleting user {} failed, no rows affected.", userIdToDelete);
                 return false;
             }
         } catch (SQLException e) {
-            System.err.println("UserService: SQL Error deleting user " + userIdToDelete + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("SQL error deleting user {}", userIdToDelete, e);
             return false;
         }
     }
@@ -0,0 +1,22 @@
+package com.university.auctionsystem.server.transport;
+
+import com.university.auctionsystem.shared.protocol.Response;
+
+import java.io.IOException;
+
+public interface ClientChannel {
+    void send(Response response) throws IOException;
+
+    void close();
+
+    boolean isOpen();
+
+    default boolean isWriteBacklogged() {
+        return false;
+    }
+
+    default void awaitWritable() throws InterruptedException {
+    }
+
+    String getRemoteAddress();
+}
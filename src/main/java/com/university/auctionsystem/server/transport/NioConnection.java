@@ -0,0 +1,298 @@
+package com.university.auctionsystem.server.transport;
+
+import com.university.auctionsystem.server.ClientHandler;
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.shared.protocol.CodecNegotiation;
+import com.university.auctionsystem.shared.protocol.Frames;
+import com.university.auctionsystem.shared.protocol.MessageCodec;
+import com.university.auctionsystem.shared.protocol.Request;
+import com.university.auctionsystem.shared.protocol.Response;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class NioConnection implements ClientChannel {
+    private static final Logger log = Logger.getLogger(NioConnection.class);
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_PENDING_FRAMES = 64;
+    private static final int MAX_INBOUND_FRAMES = 64;
+    private static final int RESUME_INBOUND_FRAMES = MAX_INBOUND_FRAMES / 2;
+
+    private final SocketChannel socketChannel;
+    private final NioEventLoop eventLoop;
+    private final boolean binaryProtocol;
+    private volatile MessageCodec codec = CodecNegotiation.fallbackCodec();
+    private volatile boolean negotiated = false;
+    private final Executor workers;
+    private final Runnable onClose;
+    private final String remoteAddress;
+    private ClientHandler handler;
+    private volatile SelectionKey key;
+
+    private ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final Queue<byte[]> inbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inboundFrames = new AtomicInteger();
+    private final AtomicBoolean readPaused = new AtomicBoolean();
+    private final AtomicBoolean processing = new AtomicBoolean();
+    private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingFrames = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Object writeReady = new Object();
+
+    NioConnection(SocketChannel socketChannel, NioEventLoop eventLoop, boolean binaryProtocol, Executor workers, Runnable onClose) {
+        this.socketChannel = socketChannel;
+        this.eventLoop = eventLoop;
+        this.binaryProtocol = binaryProtocol;
+        this.workers = workers;
+        this.onClose = onClose;
+        String address;
+        try {
+            address = String.valueOf(socketChannel.getRemoteAddress());
+        } catch (IOException e) {
+            address = "unknown";
+        }
+        this.remoteAddress = address;
+    }
+
+    void bind(ClientHandler handler) {
+        this.handler = handler;
+    }
+
+    ClientHandler getHandler() {
+        return handler;
+    }
+
+    SocketChannel getSocketChannel() {
+        return socketChannel;
+    }
+
+    void onRegistered(SelectionKey key) {
+        this.key = key;
+        if (!outbound.isEmpty()) {
+            onWritable();
+        }
+    }
+
+    void onReadable() {
+        int read;
+        try {
+            read = socketChannel.read(readBuffer);
+        } catch (IOException e) {
+            log.debug("Client {} disconnected: {}", handler.describe(), e.getMessage());
+            handler.closeConnection();
+            return;
+        }
+        if (read < 0) {
+            log.debug("Client {} disconnected.", handler.describe());
+            handler.closeConnection();
+            return;
+        }
+
+        readBuffer.flip();
+        int pendingFrameLength = 0;
+        try {
+            while (readBuffer.remaining() >= Frames.HEADER_LENGTH) {
+                int length = readBuffer.getInt(readBuffer.position());
+                Frames.checkLength(length);
+                if (readBuffer.remaining() < Frames.HEADER_LENGTH + length) {
+                    pendingFrameLength = Frames.HEADER_LENGTH + length;
+                    break;
+                }
+                readBuffer.getInt();
+                byte[] frame = new byte[length];
+                readBuffer.get(frame);
+                inbound.add(frame);
+                inboundFrames.incrementAndGet();
+            }
+        } catch (IOException e) {
+            log.warn("Protocol error from {}: {}", handler.describe(), e.getMessage());
+            handler.closeConnection();
+            return;
+        }
+        readBuffer.compact();
+        if (pendingFrameLength > readBuffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(pendingFrameLength);
+            readBuffer.flip();
+            larger.put(readBuffer);
+            readBuffer = larger;
+        }
+        if (inboundFrames.get() >= MAX_INBOUND_FRAMES) {
+            pauseReading();
+        }
+        scheduleProcessing();
+    }
+
+    private void pauseReading() {
+        readPaused.set(true);
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        log.debug("Paused reads from {} with {} requests queued", handler.describe(), inboundFrames.get());
+        if (inboundFrames.get() <= RESUME_INBOUND_FRAMES) {
+            resumeReading();
+        }
+    }
+
+    private void resumeReading() {
+        if (!readPaused.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+        } catch (CancelledKeyException e) {
+            handler.closeConnection();
+        }
+    }
+
+    private void scheduleProcessing() {
+        if (!inbound.isEmpty() && processing.compareAndSet(false, true)) {
+            workers.execute(this::processInbound);
+        }
+    }
+
+    private void processInbound() {
+        boolean keepOpen = true;
+        try {
+            byte[] frame;
+            while (keepOpen && (frame = inbound.poll()) != null) {
+                if (inboundFrames.decrementAndGet() <= RESUME_INBOUND_FRAMES && readPaused.get()) {
+                    eventLoop.execute(this::resumeReading);
+                }
+                if (!negotiated) {
+                    negotiated = true;
+                    if (CodecNegotiation.isHello(frame)) {
+                        byte codecId = CodecNegotiation.select(frame, binaryProtocol);
+                        codec = CodecNegotiation.codecFor(codecId);
+                        sendFrame(CodecNegotiation.accept(codecId));
+                        continue;
+                    }
+                }
+                Object message = codec.decode(frame);
+                if (message instanceof Request request) {
+                    keepOpen = handler.handleRequest(request);
+                } else {
+                    log.warn("NIO transport received unknown object type: {}", message != null ? message.getClass().getName() : "null");
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not decode request from {}: {}", handler.describe(), e.getMessage());
+            keepOpen = false;
+        } finally {
+            processing.set(false);
+        }
+        if (!keepOpen) {
+            handler.closeConnection();
+            return;
+        }
+        scheduleProcessing();
+    }
+
+    void onWritable() {
+        flushScheduled.set(false);
+        try {
+            ByteBuffer buffer;
+            while ((buffer = outbound.peek()) != null) {
+                socketChannel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                    return;
+                }
+                outbound.poll();
+                if (pendingFrames.decrementAndGet() == MAX_PENDING_FRAMES - 1) {
+                    signalWritable();
+                }
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        } catch (IOException | CancelledKeyException e) {
+            if (!closed.get()) {
+                log.warn("Error writing to client {}: {}", handler.describe(), e.getMessage());
+            }
+            handler.closeConnection();
+        }
+    }
+
+    @Override
+    public void send(Response response) throws IOException {
+        if (closed.get()) {
+            return;
+        }
+        sendFrame(codec.encode(response));
+    }
+
+    private void sendFrame(byte[] payload) {
+        if (closed.get()) {
+            return;
+        }
+        ByteBuffer frame = ByteBuffer.allocate(Frames.HEADER_LENGTH + payload.length);
+        frame.putInt(payload.length).put(payload).flip();
+        outbound.add(frame);
+        pendingFrames.incrementAndGet();
+        if (flushScheduled.compareAndSet(false, true)) {
+            eventLoop.execute(() -> {
+                if (key != null && key.isValid()) {
+                    onWritable();
+                } else {
+                    flushScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            socketChannel.close();
+        } catch (IOException e) {
+            log.warn("Error closing client channel: {}", e.getMessage());
+        }
+        outbound.clear();
+        pendingFrames.set(0);
+        signalWritable();
+        inbound.clear();
+        inboundFrames.set(0);
+        onClose.run();
+    }
+
+    @Override
+    public boolean isWriteBacklogged() {
+        return pendingFrames.get() >= MAX_PENDING_FRAMES;
+    }
+
+    @Override
+    public void awaitWritable() throws InterruptedException {
+        synchronized (writeReady) {
+            while (isWriteBacklogged() && isOpen()) {
+                writeReady.wait();
+            }
+        }
+    }
+
+    private void signalWritable() {
+        synchronized (writeReady) {
+            writeReady.notifyAll();
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed.get() && socketChannel.isOpen();
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+}
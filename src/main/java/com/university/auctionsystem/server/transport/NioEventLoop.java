@@ -0,0 +1,110 @@
+package com.university.auctionsystem.server.transport;
+
+import com.university.auctionsystem.server.logging.Logger;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+class NioEventLoop implements Runnable {
+    private static final Logger log = Logger.getLogger(NioEventLoop.class);
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    NioEventLoop(String name) throws IOException {
+        this.selector = Selector.open();
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void register(NioConnection connection) {
+        execute(() -> {
+            try {
+                SelectionKey key = connection.getSocketChannel().register(selector, SelectionKey.OP_READ, connection);
+                connection.onRegistered(key);
+            } catch (ClosedChannelException e) {
+                connection.getHandler().closeConnection();
+            }
+        });
+    }
+
+    void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                runTasks();
+                Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                while (selected.hasNext()) {
+                    SelectionKey key = selected.next();
+                    selected.remove();
+                    NioConnection connection = (NioConnection) key.attachment();
+                    try {
+                        if (key.isValid() && key.isReadable()) {
+                            connection.onReadable();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.onWritable();
+                        }
+                    } catch (CancelledKeyException e) {
+                        connection.getHandler().closeConnection();
+                    } catch (RuntimeException e) {
+                        log.error("Error serving client {}, closing it", connection.getHandler().describe(), e);
+                        connection.getHandler().closeConnection();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                log.error("NIO event loop {} failed", thread.getName(), e);
+            }
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                ((NioConnection) key.attachment()).getHandler().closeConnection();
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                log.warn("Error closing selector: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) {
+        try {
+            thread.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !thread.isAlive();
+    }
+}
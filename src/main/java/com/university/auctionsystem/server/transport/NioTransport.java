@@ -0,0 +1,114 @@
+package com.university.auctionsystem.server.transport;
+
+import com.university.auctionsystem.server.ClientHandler;
+import com.university.auctionsystem.server.logging.Logger;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class NioTransport implements ServerTransport {
+    private static final Logger log = Logger.getLogger(NioTransport.class);
+
+    private final int port;
+    private final int maxSessions;
+    private final int eventLoopCount;
+    private final Function<ClientChannel, ClientHandler> handlerFactory;
+    private final boolean binaryProtocol = Boolean.parseBoolean(System.getProperty("auction.protocol.binary", "true"));
+    private final ExecutorService workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("nio-worker-", 0).factory());
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private NioEventLoop[] eventLoops = new NioEventLoop[0];
+    private ServerSocketChannel serverChannel;
+    private volatile boolean running = true;
+
+    public NioTransport(int port, int maxSessions, int eventLoopCount, Function<ClientChannel, ClientHandler> handlerFactory) {
+        this.port = port;
+        this.maxSessions = maxSessions;
+        this.eventLoopCount = Math.max(1, eventLoopCount);
+        this.handlerFactory = handlerFactory;
+    }
+
+    @Override
+    public void start() throws IOException {
+        eventLoops = new NioEventLoop[eventLoopCount];
+        for (int i = 0; i < eventLoopCount; i++) {
+            eventLoops[i] = new NioEventLoop("nio-loop-" + i);
+            eventLoops[i].start();
+        }
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        log.info("NIO transport listening on port {} ({} event loops, max sessions: {})", port, eventLoopCount, maxSessions);
+
+        int nextLoop = 0;
+        while (running) {
+            try {
+                SocketChannel socketChannel = serverChannel.accept();
+                if (activeConnections.incrementAndGet() > maxSessions) {
+                    activeConnections.decrementAndGet();
+                    log.warn("Session limit reached ({}), rejecting client: {}", maxSessions, socketChannel.getRemoteAddress());
+                    socketChannel.close();
+                    continue;
+                }
+                socketChannel.configureBlocking(false);
+                socketChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                log.debug("New client connected: {}", socketChannel.getRemoteAddress());
+
+                NioEventLoop eventLoop = eventLoops[nextLoop];
+                nextLoop = (nextLoop + 1) % eventLoops.length;
+                NioConnection connection = new NioConnection(socketChannel, eventLoop, binaryProtocol, workers, activeConnections::decrementAndGet);
+                ClientHandler clientHandler = handlerFactory.apply(connection);
+                connection.bind(clientHandler);
+                clientHandler.open();
+                eventLoop.register(connection);
+            } catch (IOException e) {
+                if (running) {
+                    log.error("Error accepting client connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (serverChannel != null && serverChannel.isOpen()) {
+            try {
+                serverChannel.close();
+                log.info("Server channel closed.");
+            } catch (IOException e) {
+                log.error("Error closing server channel: {}", e.getMessage());
+            }
+        }
+        for (NioEventLoop eventLoop : eventLoops) {
+            eventLoop.close();
+        }
+        workers.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        boolean terminated = true;
+        for (NioEventLoop eventLoop : eventLoops) {
+            terminated &= eventLoop.awaitTermination(timeout, unit);
+        }
+        try {
+            terminated &= workers.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return terminated;
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+}
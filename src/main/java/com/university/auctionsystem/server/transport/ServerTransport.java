@@ -0,0 +1,14 @@
+package com.university.auctionsystem.server.transport;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public interface ServerTransport {
+    void start() throws IOException;
+
+    void close();
+
+    boolean awaitTermination(long timeout, TimeUnit unit);
+
+    int getActiveConnections();
+}
@@ -0,0 +1,72 @@
+package com.university.auctionsystem.server.transport;
+
+import com.university.auctionsystem.server.ClientHandler;
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.server.ConnectionExecutor;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class SocketTransport implements ServerTransport {
+    private static final Logger log = Logger.getLogger(SocketTransport.class);
+    private final int port;
+    private final Function<ClientChannel, ClientHandler> handlerFactory;
+    private final ConnectionExecutor connectionExecutor;
+    private ServerSocket serverSocket;
+    private volatile boolean running = true;
+
+    public SocketTransport(int port, int maxSessions, boolean useVirtualThreads, Function<ClientChannel, ClientHandler> handlerFactory) {
+        this.port = port;
+        this.handlerFactory = handlerFactory;
+        this.connectionExecutor = new ConnectionExecutor(maxSessions, useVirtualThreads);
+    }
+
+    @Override
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port);
+        log.info("Socket transport listening on port {} (max sessions: {})", port, connectionExecutor.getMaxSessions());
+        while (running) {
+            try {
+                Socket clientSocket = serverSocket.accept();
+                log.debug("New client connected: {}", clientSocket.getInetAddress());
+                StreamClientChannel channel = new StreamClientChannel(clientSocket);
+                ClientHandler clientHandler = handlerFactory.apply(channel);
+                if (!connectionExecutor.submit(() -> channel.serve(clientHandler))) {
+                    log.warn("Session limit reached ({}), rejecting client: {}", connectionExecutor.getMaxSessions(), clientSocket.getInetAddress());
+                    clientSocket.close();
+                }
+            } catch (IOException e) {
+                if (running) {
+                    log.error("Error accepting client connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        connectionExecutor.shutdown();
+        if (serverSocket != null && !serverSocket.isClosed()) {
+            try {
+                serverSocket.close();
+                log.info("Server socket closed.");
+            } catch (IOException e) {
+                log.error("Error closing server socket: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return connectionExecutor.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return connectionExecutor.getActiveSessions();
+    }
+}
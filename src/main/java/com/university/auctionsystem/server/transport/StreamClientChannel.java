@@ -0,0 +1,79 @@
+package com.university.auctionsystem.server.transport;
+
+import com.university.auctionsystem.server.ClientHandler;
+import com.university.auctionsystem.server.logging.Logger;
+import com.university.auctionsystem.shared.protocol.Request;
+import com.university.auctionsystem.shared.protocol.Response;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.net.SocketException;
+
+public class StreamClientChannel implements ClientChannel {
+    private static final Logger log = Logger.getLogger(StreamClientChannel.class);
+    private final Socket socket;
+    private ObjectOutputStream out;
+    private ObjectInputStream in;
+
+    public StreamClientChannel(Socket socket) {
+        this.socket = socket;
+    }
+
+    public void serve(ClientHandler handler) {
+        handler.open();
+        try {
+            synchronized (this) {
+                out = new ObjectOutputStream(socket.getOutputStream());
+                out.flush();
+            }
+            in = new ObjectInputStream(socket.getInputStream());
+
+            Request request;
+            while (handler.isRunning() && (request = (Request) in.readObject()) != null) {
+                if (!handler.handleRequest(request)) {
+                    break;
+                }
+            }
+        } catch (SocketException | EOFException e) {
+            log.debug("Client {} disconnected: {}", handler.describe(), e.getMessage());
+        } catch (IOException | ClassNotFoundException e) {
+            if (handler.isRunning() && !socket.isClosed()) {
+                log.error("Session error for {}", handler.describe(), e);
+            }
+        } finally {
+            handler.closeConnection();
+        }
+    }
+
+    @Override
+    public synchronized void send(Response response) throws IOException {
+        if (out == null || socket.isClosed()) {
+            return;
+        }
+        out.writeObject(response);
+        out.flush();
+        out.reset();
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (!socket.isClosed()) socket.close();
+        } catch (IOException e) {
+            log.warn("Error closing client socket: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !socket.isClosed();
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return String.valueOf(socket.getInetAddress());
+    }
+}
@@ -0,0 +1,34 @@
+package com.university.auctionsystem.shared.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Page<T> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private ArrayList<T> items;
+    private String nextCursor;
+
+    public Page() {
+        this.items = new ArrayList<>();
+    }
+
+    public Page(List<T> items, String nextCursor) {
+        this.items = toArrayList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    private static <T> ArrayList<T> toArrayList(List<T> items) {
+        return items instanceof ArrayList<T> list ? list : new ArrayList<>(items);
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = toArrayList(items); }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.university.auctionsystem.shared.model;
+
+import java.io.Serializable;
+
+public class PageRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String cursor;
+    private int limit = 50;
+
+    public PageRequest() {
+    }
+
+    public PageRequest(String cursor, int limit) {
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+}
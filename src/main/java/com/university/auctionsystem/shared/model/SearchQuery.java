@@ -0,0 +1,48 @@
+package com.university.auctionsystem.shared.model;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+public class SearchQuery implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String text;
+    private String category;
+    private Auction.AuctionStatus status;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private long endingWithinMillis;
+    private int page;
+    private int pageSize = 20;
+
+    public SearchQuery() {
+    }
+
+    public SearchQuery(String text) {
+        this.text = text;
+    }
+
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    public Auction.AuctionStatus getStatus() { return status; }
+    public void setStatus(Auction.AuctionStatus status) { this.status = status; }
+    public BigDecimal getMinPrice() { return minPrice; }
+    public void setMinPrice(BigDecimal minPrice) { this.minPrice = minPrice; }
+    public BigDecimal getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(BigDecimal maxPrice) { this.maxPrice = maxPrice; }
+    public long getEndingWithinMillis() { return endingWithinMillis; }
+    public void setEndingWithinMillis(long endingWithinMillis) { this.endingWithinMillis = endingWithinMillis; }
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+    public int getPageSize() { return pageSize; }
+    public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+
+    @Override
+    public String toString() {
+        return "SearchQuery{text='" + text + "', category=" + category + ", status=" + status +
+                ", price=" + minPrice + ".." + maxPrice + ", endingWithinMillis=" + endingWithinMillis +
+                ", page=" + page + ", pageSize=" + pageSize + '}';
+    }
+}
@@ -0,0 +1,605 @@
+package com.university.auctionsystem.shared.protocol;
+
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.model.Bid;
+import com.university.auctionsystem.shared.model.Item;
+import com.university.auctionsystem.shared.model.Message;
+import com.university.auctionsystem.shared.model.Page;
+import com.university.auctionsystem.shared.model.PageRequest;
+import com.university.auctionsystem.shared.model.Role;
+import com.university.auctionsystem.shared.model.SearchQuery;
+import com.university.auctionsystem.shared.model.User;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+public class BinaryCodec implements MessageCodec {
+    public static final byte MAGIC = (byte) 0xB7;
+    public static final byte VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_REQUEST = 1;
+    private static final byte TAG_RESPONSE = 2;
+    private static final byte TAG_INTEGER = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_STRING = 5;
+    private static final byte TAG_BOOLEAN = 6;
+    private static final byte TAG_DECIMAL = 7;
+    private static final byte TAG_LIST = 8;
+    private static final byte TAG_AUCTION = 9;
+    private static final byte TAG_BID = 10;
+    private static final byte TAG_ITEM = 11;
+    private static final byte TAG_USER = 12;
+    private static final byte TAG_MESSAGE = 13;
+    private static final byte TAG_SEARCH_QUERY = 14;
+    private static final byte TAG_PAGE = 15;
+    private static final byte TAG_PAGE_REQUEST = 16;
+    private static final byte TAG_SERIALIZED = 127;
+
+    // Wire code of a constant is its position in these tables, independent of declaration order.
+    // New constants are appended; existing entries are never reordered or removed.
+    private static final Role[] ROLE_CODES = codes(Role.class,
+            Role.BUYER, Role.SELLER, Role.ADMIN);
+    private static final Auction.AuctionStatus[] AUCTION_STATUS_CODES = codes(Auction.AuctionStatus.class,
+            Auction.AuctionStatus.UPCOMING, Auction.AuctionStatus.ACTIVE,
+            Auction.AuctionStatus.ENDED, Auction.AuctionStatus.CANCELLED);
+    private static final Auction.PaymentStatus[] PAYMENT_STATUS_CODES = codes(Auction.PaymentStatus.class,
+            Auction.PaymentStatus.PENDING, Auction.PaymentStatus.PAID,
+            Auction.PaymentStatus.FAILED, Auction.PaymentStatus.REFUNDED);
+
+    private final SerializationCodec fallback = new SerializationCodec();
+
+    @Override
+    public byte[] encode(Object message) throws IOException {
+        Writer out = new Writer(256);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        writeValue(out, message);
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] data) throws IOException {
+        Reader in = new Reader(data);
+        if (in.readByte() != MAGIC) {
+            throw new IOException("Not a binary protocol frame.");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary protocol version: " + version);
+        }
+        return readValue(in);
+    }
+
+    private byte[] encodeValue(Object value) throws IOException {
+        Writer out = new Writer(4096);
+        writeValue(out, value);
+        return out.toByteArray();
+    }
+
+    private void writeValue(Writer out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Request request) {
+            out.writeByte(TAG_REQUEST);
+            writeRequestType(out, request.getType());
+            out.writeString(request.getCorrelationId());
+            writeValue(out, request.getPayload());
+        } else if (value instanceof Response response) {
+            out.writeByte(TAG_RESPONSE);
+            out.writeBoolean(response.isSuccess());
+            out.writeString(response.getMessage());
+            writeRequestType(out, response.getOriginalRequestType());
+            out.writeString(response.getCorrelationId());
+            writeValue(out, response.getData());
+        } else if (value instanceof Integer number) {
+            out.writeByte(TAG_INTEGER);
+            out.writeVarLong(number);
+        } else if (value instanceof Long number) {
+            out.writeByte(TAG_LONG);
+            out.writeVarLong(number);
+        } else if (value instanceof String text) {
+            out.writeByte(TAG_STRING);
+            out.writeString(text);
+        } else if (value instanceof Boolean flag) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(flag);
+        } else if (value instanceof BigDecimal decimal) {
+            out.writeByte(TAG_DECIMAL);
+            out.writeDecimal(decimal);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeVarLong(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Auction auction) {
+            out.writeByte(TAG_AUCTION);
+            writeAuction(out, auction);
+        } else if (value instanceof Bid bid) {
+            out.writeByte(TAG_BID);
+            writeBid(out, bid);
+        } else if (value instanceof Item item) {
+            out.writeByte(TAG_ITEM);
+            writeItem(out, item);
+        } else if (value instanceof User user) {
+            out.writeByte(TAG_USER);
+            writeUser(out, user);
+        } else if (value instanceof Message message) {
+            out.writeByte(TAG_MESSAGE);
+            writeMessage(out, message);
+        } else if (value instanceof SearchQuery query) {
+            out.writeByte(TAG_SEARCH_QUERY);
+            writeSearchQuery(out, query);
+        } else if (value instanceof Page<?> page) {
+            out.writeByte(TAG_PAGE);
+            out.writeString(page.getNextCursor());
+            writeValue(out, page.getItems());
+        } else if (value instanceof PageRequest pageRequest) {
+            out.writeByte(TAG_PAGE_REQUEST);
+            out.writeString(pageRequest.getCursor());
+            out.writeVarLong(pageRequest.getLimit());
+        } else if (value instanceof CachedPayload cached) {
+            out.writeRaw(cached.encodedFor("binary-" + VERSION, this::encodeValue));
+        } else {
+            out.writeByte(TAG_SERIALIZED);
+            out.writeBytes(fallback.encode(value));
+        }
+    }
+
+    private Object readValue(Reader in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_REQUEST: {
+                RequestType type = readRequestType(in);
+                String correlationId = in.readString();
+                Request request = new Request(type, readValue(in));
+                request.setCorrelationId(correlationId);
+                return request;
+            }
+            case TAG_RESPONSE: {
+                boolean success = in.readBoolean();
+                String message = in.readString();
+                RequestType type = readRequestType(in);
+                String correlationId = in.readString();
+                return new Response(success, message, readValue(in), type, correlationId);
+            }
+            case TAG_INTEGER:
+                return (int) in.readVarLong();
+            case TAG_LONG:
+                return in.readVarLong();
+            case TAG_STRING:
+                return in.readString();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_DECIMAL:
+                return in.readDecimal();
+            case TAG_LIST: {
+                int size = in.readLength();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case TAG_AUCTION:
+                return readAuction(in);
+            case TAG_BID:
+                return readBid(in);
+            case TAG_ITEM:
+                return readItem(in);
+            case TAG_USER:
+                return readUser(in);
+            case TAG_MESSAGE:
+                return readMessage(in);
+            case TAG_SEARCH_QUERY:
+                return readSearchQuery(in);
+            case TAG_PAGE: {
+                String nextCursor = in.readString();
+                Object items = readValue(in);
+                if (!(items instanceof List<?> list)) {
+                    throw new IOException("Page without item list.");
+                }
+                return new Page<>(new ArrayList<Object>(list), nextCursor);
+            }
+            case TAG_PAGE_REQUEST: {
+                String cursor = in.readString();
+                return new PageRequest(cursor, (int) in.readVarLong());
+            }
+            case TAG_SERIALIZED:
+                return fallback.decode(in.readBytes());
+            default:
+                throw new IOException("Unknown binary protocol tag: " + tag);
+        }
+    }
+
+    private void writeAuction(Writer out, Auction auction) throws IOException {
+        out.writeVarLong(auction.getAuctionId());
+        out.writeVarLong(auction.getItemId());
+        out.writeTimestamp(auction.getStartTime());
+        out.writeTimestamp(auction.getEndTime());
+        out.writeDecimal(auction.getStartPrice());
+        out.writeDecimal(auction.getReservePrice());
+        out.writeDecimal(auction.getCurrentHighestBid());
+        out.writeVarLong(auction.getWinningBidderId());
+        writeEnum(out, auction.getStatus(), AUCTION_STATUS_CODES);
+        out.writeTimestamp(auction.getCreatedAt());
+        writeEnum(out, auction.getPaymentStatus(), PAYMENT_STATUS_CODES);
+        if (auction.getItem() != null) {
+            out.writeBoolean(true);
+            writeItem(out, auction.getItem());
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    private Auction readAuction(Reader in) throws IOException {
+        Auction auction = new Auction();
+        auction.setAuctionId((int) in.readVarLong());
+        auction.setItemId((int) in.readVarLong());
+        auction.setStartTime(in.readTimestamp());
+        auction.setEndTime(in.readTimestamp());
+        auction.setStartPrice(in.readDecimal());
+        auction.setReservePrice(in.readDecimal());
+        auction.setCurrentHighestBid(in.readDecimal());
+        auction.setWinningBidderId((int) in.readVarLong());
+        auction.setStatus(readEnum(in, AUCTION_STATUS_CODES));
+        auction.setCreatedAt(in.readTimestamp());
+        auction.setPaymentStatus(readEnum(in, PAYMENT_STATUS_CODES));
+        if (in.readBoolean()) {
+            auction.setItem(readItem(in));
+        }
+        return auction;
+    }
+
+    private void writeBid(Writer out, Bid bid) throws IOException {
+        out.writeVarLong(bid.getBidId());
+        out.writeVarLong(bid.getAuctionId());
+        out.writeVarLong(bid.getBidderId());
+        out.writeString(bid.getBidderUsername());
+        out.writeDecimal(bid.getBidAmount());
+        out.writeTimestamp(bid.getBidTime());
+        out.writeString(bid.getAuctionItemName());
+        out.writeString(bid.getAuctionStatus());
+    }
+
+    private Bid readBid(Reader in) throws IOException {
+        Bid bid = new Bid();
+        bid.setBidId((int) in.readVarLong());
+        bid.setAuctionId((int) in.readVarLong());
+        bid.setBidderId((int) in.readVarLong());
+        bid.setBidderUsername(in.readString());
+        bid.setBidAmount(in.readDecimal());
+        bid.setBidTime(in.readTimestamp());
+        bid.setAuctionItemName(in.readString());
+        bid.setAuctionStatus(in.readString());
+        return bid;
+    }
+
+    private void writeItem(Writer out, Item item) throws IOException {
+        out.writeVarLong(item.getItemId());
+        out.writeVarLong(item.getSellerId());
+        out.writeString(item.getName());
+        out.writeString(item.getDescription());
+        out.writeString(item.getImagePath());
+        out.writeString(item.getCategory());
+        out.writeString(item.getTags());
+        out.writeTimestamp(item.getCreatedAt());
+    }
+
+    private Item readItem(Reader in) throws IOException {
+        Item item = new Item();
+        item.setItemId((int) in.readVarLong());
+        item.setSellerId((int) in.readVarLong());
+        item.setName(in.readString());
+        item.setDescription(in.readString());
+        item.setImagePath(in.readString());
+        item.setCategory(in.readString());
+        item.setTags(in.readString());
+        item.setCreatedAt(in.readTimestamp());
+        return item;
+    }
+
+    private void writeUser(Writer out, User user) throws IOException {
+        out.writeVarLong(user.getUserId());
+        out.writeString(user.getUsername());
+        out.writeString(user.getPasswordHash());
+        out.writeString(user.getEmail());
+        writeEnum(out, user.getRole(), ROLE_CODES);
+        out.writeTimestamp(user.getCreatedAt());
+    }
+
+    private User readUser(Reader in) throws IOException {
+        User user = new User();
+        user.setUserId((int) in.readVarLong());
+        user.setUsername(in.readString());
+        user.setPasswordHash(in.readString());
+        user.setEmail(in.readString());
+        user.setRole(readEnum(in, ROLE_CODES));
+        user.setCreatedAt(in.readTimestamp());
+        return user;
+    }
+
+    private void writeMessage(Writer out, Message message) throws IOException {
+        out.writeVarLong(message.getMessageId());
+        out.writeVarLong(message.getAuctionId());
+        out.writeVarLong(message.getSenderId());
+        out.writeString(message.getSenderUsername());
+        out.writeVarLong(message.getReceiverId());
+        out.writeString(message.getReceiverUsername());
+        out.writeString(message.getMessageText());
+        out.writeTimestamp(message.getTimestamp());
+        out.writeBoolean(message.isRead());
+        out.writeString(message.getAuctionItemName());
+    }
+
+    private Message readMessage(Reader in) throws IOException {
+        Message message = new Message();
+        message.setMessageId((int) in.readVarLong());
+        message.setAuctionId((int) in.readVarLong());
+        message.setSenderId((int) in.readVarLong());
+        message.setSenderUsername(in.readString());
+        message.setReceiverId((int) in.readVarLong());
+        message.setReceiverUsername(in.readString());
+        message.setMessageText(in.readString());
+        message.setTimestamp(in.readTimestamp());
+        message.setRead(in.readBoolean());
+        message.setAuctionItemName(in.readString());
+        return message;
+    }
+
+    private void writeSearchQuery(Writer out, SearchQuery query) {
+        out.writeString(query.getText());
+        out.writeString(query.getCategory());
+        writeEnum(out, query.getStatus(), AUCTION_STATUS_CODES);
+        out.writeDecimal(query.getMinPrice());
+        out.writeDecimal(query.getMaxPrice());
+        out.writeVarLong(query.getEndingWithinMillis());
+        out.writeVarLong(query.getPage());
+        out.writeVarLong(query.getPageSize());
+    }
+
+    private SearchQuery readSearchQuery(Reader in) throws IOException {
+        SearchQuery query = new SearchQuery();
+        query.setText(in.readString());
+        query.setCategory(in.readString());
+        query.setStatus(readEnum(in, AUCTION_STATUS_CODES));
+        query.setMinPrice(in.readDecimal());
+        query.setMaxPrice(in.readDecimal());
+        query.setEndingWithinMillis(in.readVarLong());
+        query.setPage((int) in.readVarLong());
+        query.setPageSize((int) in.readVarLong());
+        return query;
+    }
+
+    private static void writeRequestType(Writer out, RequestType type) {
+        out.writeVarLong(type != null ? type.getWireId() + 1 : 0);
+    }
+
+    private static RequestType readRequestType(Reader in) throws IOException {
+        int id = (int) in.readVarLong();
+        if (id == 0) {
+            return null;
+        }
+        RequestType type = RequestType.fromWireId(id - 1);
+        if (type == null) {
+            throw new IOException("Unknown request type id " + (id - 1));
+        }
+        return type;
+    }
+
+    @SafeVarargs
+    private static <E extends Enum<E>> E[] codes(Class<E> type, E... constants) {
+        EnumSet<E> covered = EnumSet.noneOf(type);
+        for (E constant : constants) {
+            if (!covered.add(constant)) {
+                throw new ExceptionInInitializerError("Duplicate wire code for " + constant);
+            }
+        }
+        if (covered.size() != type.getEnumConstants().length) {
+            throw new ExceptionInInitializerError("Missing wire codes for " + EnumSet.complementOf(covered));
+        }
+        return constants;
+    }
+
+    private static <E extends Enum<E>> void writeEnum(Writer out, E value, E[] codes) {
+        if (value == null) {
+            out.writeVarLong(0);
+            return;
+        }
+        for (int code = 0; code < codes.length; code++) {
+            if (codes[code] == value) {
+                out.writeVarLong(code + 1);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("No wire code for " + value);
+    }
+
+    private static <E extends Enum<E>> E readEnum(Reader in, E[] codes) throws IOException {
+        int code = (int) in.readVarLong();
+        if (code == 0) {
+            return null;
+        }
+        if (code < 0 || code > codes.length) {
+            throw new IOException("Unknown code " + (code - 1) + " for " + codes.getClass().getComponentType().getSimpleName());
+        }
+        return codes[code - 1];
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        private Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBoolean(boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        void writeVarLong(long value) {
+            long zigZag = (value << 1) ^ (value >> 63);
+            ensureCapacity(10);
+            while ((zigZag & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+                zigZag >>>= 7;
+            }
+            buffer[position++] = (byte) zigZag;
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeRaw(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(-1);
+                return;
+            }
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeTimestamp(Timestamp value) {
+            if (value == null) {
+                writeBoolean(false);
+                return;
+            }
+            writeBoolean(true);
+            writeVarLong(value.getTime());
+        }
+
+        void writeDecimal(BigDecimal value) {
+            if (value == null) {
+                writeByte(0);
+                return;
+            }
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < 63) {
+                writeByte(1);
+                writeVarLong(value.scale());
+                writeVarLong(unscaled.longValue());
+            } else {
+                writeByte(2);
+                writeVarLong(value.scale());
+                writeBytes(unscaled.toByteArray());
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() throws IOException {
+            if (position >= buffer.length) {
+                throw new IOException("Truncated binary protocol frame.");
+            }
+            return buffer[position++];
+        }
+
+        boolean readBoolean() throws IOException {
+            return readByte() != 0;
+        }
+
+        long readVarLong() throws IOException {
+            long zigZag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                zigZag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigZag >>> 1) ^ -(zigZag & 1);
+                }
+            }
+            throw new IOException("Malformed variable-length integer.");
+        }
+
+        int readLength() throws IOException {
+            long length = readVarLong();
+            if (length < 0 || length > buffer.length - position) {
+                throw new IOException("Invalid length in binary protocol frame: " + length);
+            }
+            return (int) length;
+        }
+
+        byte[] readBytes() throws IOException {
+            int length = readLength();
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() throws IOException {
+            long length = readVarLong();
+            if (length == -1) {
+                return null;
+            }
+            if (length < 0 || length > buffer.length - position) {
+                throw new IOException("Invalid string length in binary protocol frame: " + length);
+            }
+            String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+
+        Timestamp readTimestamp() throws IOException {
+            return readBoolean() ? new Timestamp(readVarLong()) : null;
+        }
+
+        BigDecimal readDecimal() throws IOException {
+            byte kind = readByte();
+            switch (kind) {
+                case 0:
+                    return null;
+                case 1: {
+                    int scale = (int) readVarLong();
+                    return BigDecimal.valueOf(readVarLong(), scale);
+                }
+                case 2: {
+                    int scale = (int) readVarLong();
+                    return new BigDecimal(new BigInteger(readBytes()), scale);
+                }
+                default:
+                    throw new IOException("Unknown decimal encoding: " + kind);
+            }
+        }
+    }
+}
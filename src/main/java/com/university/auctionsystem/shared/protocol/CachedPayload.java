@@ -0,0 +1,79 @@
+package com.university.auctionsystem.shared.protocol;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CachedPayload implements Externalizable {
+    private static final long serialVersionUID = 1L;
+    private static final String SERIALIZATION_KEY = "serialization";
+
+    interface Encoder {
+        byte[] encode(Object value) throws IOException;
+    }
+
+    private transient Object value;
+    private transient long version;
+    private final transient Map<String, byte[]> encodings = new ConcurrentHashMap<>();
+    private final transient AtomicLong encodeCount = new AtomicLong();
+
+    public CachedPayload() {
+    }
+
+    public CachedPayload(Object value, long version) {
+        this.value = value;
+        this.version = version;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getEncodeCount() {
+        return encodeCount.get();
+    }
+
+    byte[] encodedFor(String codecKey, Encoder encoder) throws IOException {
+        byte[] encoded = encodings.get(codecKey);
+        if (encoded != null) {
+            return encoded;
+        }
+        synchronized (this) {
+            encoded = encodings.get(codecKey);
+            if (encoded == null) {
+                encoded = encoder.encode(value);
+                encodeCount.incrementAndGet();
+                encodings.put(codecKey, encoded);
+            }
+        }
+        return encoded;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        byte[] encoded = encodedFor(SERIALIZATION_KEY, new SerializationCodec()::encode);
+        out.writeLong(version);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        version = in.readLong();
+        byte[] encoded = new byte[in.readInt()];
+        in.readFully(encoded);
+        value = new SerializationCodec().decode(encoded);
+    }
+
+    private Object readResolve() {
+        return value;
+    }
+}
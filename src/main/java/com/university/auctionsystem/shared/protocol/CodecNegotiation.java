@@ -0,0 +1,80 @@
+package com.university.auctionsystem.shared.protocol;
+
+import java.io.IOException;
+
+public final class CodecNegotiation {
+    public static final byte SERIALIZATION = 1;
+    public static final byte BINARY = 2;
+
+    private static final byte[] HELLO_MAGIC = {'A', 'S', 'P', 'H'};
+    private static final byte[] ACCEPT_MAGIC = {'A', 'S', 'P', 'A'};
+
+    private static final MessageCodec SERIALIZATION_CODEC = new SerializationCodec();
+    private static final MessageCodec BINARY_CODEC = new BinaryCodec();
+
+    private CodecNegotiation() {}
+
+    public static byte[] hello(byte... preferredCodecs) {
+        byte[] frame = new byte[HELLO_MAGIC.length + 1 + preferredCodecs.length];
+        System.arraycopy(HELLO_MAGIC, 0, frame, 0, HELLO_MAGIC.length);
+        frame[HELLO_MAGIC.length] = (byte) preferredCodecs.length;
+        System.arraycopy(preferredCodecs, 0, frame, HELLO_MAGIC.length + 1, preferredCodecs.length);
+        return frame;
+    }
+
+    public static boolean isHello(byte[] frame) {
+        return startsWith(frame, HELLO_MAGIC) && frame.length > HELLO_MAGIC.length;
+    }
+
+    public static byte select(byte[] hello, boolean binaryEnabled) {
+        int count = Math.min(hello[HELLO_MAGIC.length] & 0xFF, hello.length - HELLO_MAGIC.length - 1);
+        for (int i = 0; i < count; i++) {
+            byte candidate = hello[HELLO_MAGIC.length + 1 + i];
+            if (candidate == SERIALIZATION || (candidate == BINARY && binaryEnabled)) {
+                return candidate;
+            }
+        }
+        return SERIALIZATION;
+    }
+
+    public static byte[] accept(byte codecId) {
+        byte[] frame = new byte[ACCEPT_MAGIC.length + 1];
+        System.arraycopy(ACCEPT_MAGIC, 0, frame, 0, ACCEPT_MAGIC.length);
+        frame[ACCEPT_MAGIC.length] = codecId;
+        return frame;
+    }
+
+    public static byte acceptedCodec(byte[] frame) throws IOException {
+        if (!startsWith(frame, ACCEPT_MAGIC) || frame.length != ACCEPT_MAGIC.length + 1) {
+            throw new IOException("Server did not acknowledge codec negotiation.");
+        }
+        return frame[ACCEPT_MAGIC.length];
+    }
+
+    public static MessageCodec codecFor(byte codecId) throws IOException {
+        switch (codecId) {
+            case SERIALIZATION:
+                return SERIALIZATION_CODEC;
+            case BINARY:
+                return BINARY_CODEC;
+            default:
+                throw new IOException("Unknown codec id: " + codecId);
+        }
+    }
+
+    public static MessageCodec fallbackCodec() {
+        return SERIALIZATION_CODEC;
+    }
+
+    private static boolean startsWith(byte[] frame, byte[] magic) {
+        if (frame == null || frame.length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (frame[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
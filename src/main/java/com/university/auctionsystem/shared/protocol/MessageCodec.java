@@ -0,0 +1,9 @@
+package com.university.auctionsystem.shared.protocol;
+
+import java.io.IOException;
+
+public interface MessageCodec {
+    byte[] encode(Object message) throws IOException;
+
+    Object decode(byte[] data) throws IOException;
+}
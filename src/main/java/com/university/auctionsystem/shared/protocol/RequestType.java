@@ -3,46 +3,81 @@ package com.university.auctionsystem.shared.protocol;
 import java.io.Serializable;
 
 public enum RequestType implements Serializable {
-    REGISTER_USER,
-    LOGIN_USER,
-    GET_USER_PROFILE,
-    UPDATE_USER_PROFILE,
-
-    LIST_ITEM,
-    GET_SELLER_ITEMS,
-    UPDATE_ITEM,
-    SEARCH_ITEMS,
-
-    CREATE_AUCTION,
-    GET_ACTIVE_AUCTIONS,
-    GET_AUCTION_DETAILS,
-    GET_MY_CREATED_AUCTIONS,
-    CANCEL_UPCOMING_AUCTION,
-    GET_ENDED_AUCTIONS,
-
-    PLACE_BID,
-    GET_BIDS_FOR_AUCTION,
-    GET_MY_BIDS,
-    GET_MY_WON_AUCTIONS,
-    SEARCH_AUCTIONS,
-
-    SEND_MESSAGE,
-    GET_MY_MESSAGES,
-    MARK_MESSAGE_AS_READ,
-
-    AUCTION_UPDATE,
-    OUTBID_NOTIFICATION,
-    WINNER_NOTIFICATION,
-    AUCTION_ENDED_SELLER_NOTIFICATION,
-
-    GET_ALL_USERS,
-    GET_ALL_AUCTIONS,
-
-    PROCESS_PAYMENT,
-
-    DELETE_USER,
-    DELETE_AUCTION,
-
-    PING,
-    DISCONNECT
-}
\ No newline at end of file
+    REGISTER_USER(0),
+    LOGIN_USER(1),
+    GET_USER_PROFILE(2),
+    UPDATE_USER_PROFILE(3),
+
+    LIST_ITEM(4),
+    GET_SELLER_ITEMS(5),
+    UPDATE_ITEM(6),
+    SEARCH_ITEMS(7),
+
+    CREATE_AUCTION(8),
+    GET_ACTIVE_AUCTIONS(9),
+    GET_ACTIVE_AUCTIONS_PAGE(33),
+    GET_AUCTION_DETAILS(10),
+    GET_MY_CREATED_AUCTIONS(11),
+    CANCEL_UPCOMING_AUCTION(12),
+    GET_ENDED_AUCTIONS(13),
+
+    PLACE_BID(14),
+    PLACE_PROXY_BID(37),
+    GET_BIDS_FOR_AUCTION(15),
+    GET_MY_BIDS(16),
+    GET_MY_WON_AUCTIONS(17),
+    SEARCH_AUCTIONS(18),
+
+    SEND_MESSAGE(19),
+    GET_MY_MESSAGES(20),
+    GET_MY_MESSAGES_PAGE(34),
+    MARK_MESSAGE_AS_READ(21),
+
+    AUCTION_UPDATE(22),
+    OUTBID_NOTIFICATION(23),
+    WINNER_NOTIFICATION(24),
+    AUCTION_ENDED_SELLER_NOTIFICATION(25),
+
+    GET_ALL_USERS(26),
+    GET_ALL_AUCTIONS(27),
+    GET_ALL_USERS_PAGE(35),
+    GET_ALL_AUCTIONS_PAGE(36),
+
+    PROCESS_PAYMENT(28),
+
+    DELETE_USER(29),
+    DELETE_AUCTION(30),
+
+    PING(31),
+    DISCONNECT(32);
+
+    private static final RequestType[] BY_WIRE_ID;
+
+    static {
+        int maxWireId = 0;
+        for (RequestType type : values()) {
+            maxWireId = Math.max(maxWireId, type.wireId);
+        }
+        BY_WIRE_ID = new RequestType[maxWireId + 1];
+        for (RequestType type : values()) {
+            if (BY_WIRE_ID[type.wireId] != null) {
+                throw new ExceptionInInitializerError("Duplicate wire id " + type.wireId + " for " + type);
+            }
+            BY_WIRE_ID[type.wireId] = type;
+        }
+    }
+
+    private final int wireId;
+
+    RequestType(int wireId) {
+        this.wireId = wireId;
+    }
+
+    public int getWireId() {
+        return wireId;
+    }
+
+    public static RequestType fromWireId(int wireId) {
+        return wireId >= 0 && wireId < BY_WIRE_ID.length ? BY_WIRE_ID[wireId] : null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.university.auctionsystem.server.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BidIncrementTableTest {
+    private final BidIncrementTable table = new BidIncrementTable(BidIncrementTable.DEFAULT_TABLE);
+
+    @Test
+    void stepAppliesFromItsOwnPriceUpToTheNext() {
+        assertEquals(new BigDecimal("0.50"), table.incrementFor(new BigDecimal("0")));
+        assertEquals(new BigDecimal("0.50"), table.incrementFor(new BigDecimal("19.99")));
+        assertEquals(new BigDecimal("1.00"), table.incrementFor(new BigDecimal("20")));
+        assertEquals(new BigDecimal("2.50"), table.incrementFor(new BigDecimal("100.00")));
+        assertEquals(new BigDecimal("50.00"), table.incrementFor(new BigDecimal("250000")));
+    }
+
+    @Test
+    void nextBidAddsTheIncrementForThePrice() {
+        assertEquals(new BigDecimal("10.50"), table.nextBid(new BigDecimal("10.00")));
+        assertEquals(new BigDecimal("21.00"), table.nextBid(new BigDecimal("20.00")));
+    }
+
+    @Test
+    void stepsMayBeListedInAnyOrder() {
+        BidIncrementTable unordered = new BidIncrementTable(" 20 : 1.00 , 0:0.25");
+
+        assertEquals(new BigDecimal("0.25"), unordered.incrementFor(new BigDecimal("5")));
+        assertEquals(new BigDecimal("1.00"), unordered.incrementFor(new BigDecimal("20")));
+    }
+
+    @Test
+    void rejectsAStepWithoutAnIncrement() {
+        assertThrows(IllegalArgumentException.class, () -> new BidIncrementTable("0:0.50,20"));
+    }
+
+    @Test
+    void rejectsANonPositiveIncrement() {
+        assertThrows(IllegalArgumentException.class, () -> new BidIncrementTable("0:0.50,20:0"));
+        assertThrows(IllegalArgumentException.class, () -> new BidIncrementTable("0:-1"));
+    }
+
+    @Test
+    void rejectsATableThatDoesNotStartAtZero() {
+        assertThrows(IllegalArgumentException.class, () -> new BidIncrementTable("10:1.00"));
+    }
+
+    @Test
+    void rejectsNumbersThatDoNotParse() {
+        assertThrows(IllegalArgumentException.class, () -> new BidIncrementTable("0:cheap"));
+        assertThrows(IllegalArgumentException.class, () -> new BidIncrementTable(""));
+    }
+}
@@ -0,0 +1,134 @@
+package com.university.auctionsystem.server.services;
+
+import com.university.auctionsystem.shared.model.Bid;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BidLadderTest {
+    private static final int AUCTION = 7;
+    private static final int LEADER = 1;
+    private static final int CHALLENGER = 2;
+
+    private final BidLadder ladder = new BidLadder(new BidIncrementTable(BidIncrementTable.DEFAULT_TABLE));
+
+    @Test
+    void directBidTyingTheCeilingIsNotRecorded() {
+        List<Bid> bids = ladder.resolve(bid(CHALLENGER, "50.00"), false, LEADER, price("21.00"), price("50.00"));
+
+        assertLadder(bids, LEADER, "50.00");
+    }
+
+    @Test
+    void directBidBelowTheCeilingIsAnsweredOneIncrementHigher() {
+        Bid direct = bid(CHALLENGER, "20.00");
+
+        List<Bid> bids = ladder.resolve(direct, false, LEADER, price("10.50"), price("50.00"));
+
+        assertLadder(bids, CHALLENGER, "20.00", LEADER, "21.00");
+        assertSame(direct, bids.get(0));
+    }
+
+    @Test
+    void defenceIsCappedAtTheCeiling() {
+        List<Bid> bids = ladder.resolve(bid(CHALLENGER, "49.50"), false, LEADER, price("21.00"), price("50.00"));
+
+        assertLadder(bids, CHALLENGER, "49.50", LEADER, "50.00");
+    }
+
+    @Test
+    void directBidAboveTheCeilingTakesTheLeadAtItsOwnAmount() {
+        Bid direct = bid(CHALLENGER, "60.00");
+
+        List<Bid> bids = ladder.resolve(direct, false, LEADER, price("21.00"), price("50.00"));
+
+        assertLadder(bids, LEADER, "50.00", CHALLENGER, "60.00");
+        assertSame(direct, bids.get(1));
+    }
+
+    @Test
+    void higherProxyTakesTheLeadOneIncrementAboveTheCeiling() {
+        List<Bid> bids = ladder.resolve(bid(CHALLENGER, "100.00"), true, LEADER, price("10.50"), price("50.00"));
+
+        assertLadder(bids, LEADER, "50.00", CHALLENGER, "51.00");
+    }
+
+    @Test
+    void higherProxyNeverBidsPastItsOwnMaximum() {
+        List<Bid> bids = ladder.resolve(bid(CHALLENGER, "50.40"), true, LEADER, price("10.50"), price("50.00"));
+
+        assertLadder(bids, LEADER, "50.00", CHALLENGER, "50.40");
+    }
+
+    @Test
+    void lowerProxyIsExhaustedAndTheLeaderDefends() {
+        List<Bid> bids = ladder.resolve(bid(CHALLENGER, "40.00"), true, LEADER, price("10.50"), price("50.00"));
+
+        assertLadder(bids, CHALLENGER, "40.00", LEADER, "41.00");
+    }
+
+    @Test
+    void equalProxyLosesToTheEarlierCeiling() {
+        List<Bid> bids = ladder.resolve(bid(CHALLENGER, "50.00"), true, LEADER, price("10.50"), price("50.00"));
+
+        assertLadder(bids, LEADER, "50.00");
+    }
+
+    @Test
+    void proxyAgainstALeaderWithoutCeilingBidsOneIncrement() {
+        List<Bid> bids = ladder.resolve(bid(CHALLENGER, "100.00"), true, LEADER, price("10.00"), price("10.00"));
+
+        assertLadder(bids, CHALLENGER, "10.50");
+    }
+
+    @Test
+    void leaderRaisingTheirOwnCeilingRecordsNothing() {
+        List<Bid> bids = ladder.resolve(bid(LEADER, "80.00"), true, LEADER, price("21.00"), price("50.00"));
+
+        assertTrue(bids.isEmpty());
+    }
+
+    @Test
+    void leaderDirectBidIsRecordedAsIs() {
+        Bid direct = bid(LEADER, "30.00");
+
+        List<Bid> bids = ladder.resolve(direct, false, LEADER, price("21.00"), price("50.00"));
+
+        assertLadder(bids, LEADER, "30.00");
+        assertSame(direct, bids.get(0));
+    }
+
+    @Test
+    void automaticBidsKeepTheRequestAuctionAndTime() {
+        Bid request = bid(CHALLENGER, "100.00");
+
+        Bid automatic = ladder.resolve(request, true, LEADER, price("10.50"), price("50.00")).get(0);
+
+        assertEquals(AUCTION, automatic.getAuctionId());
+        assertEquals(request.getBidTime(), automatic.getBidTime());
+    }
+
+    private static Bid bid(int bidderId, String amount) {
+        Bid bid = new Bid(AUCTION, bidderId, price(amount));
+        bid.setBidTime(new Timestamp(1_700_000_000_000L));
+        return bid;
+    }
+
+    private static BigDecimal price(String amount) {
+        return new BigDecimal(amount);
+    }
+
+    private static void assertLadder(List<Bid> bids, Object... expected) {
+        assertEquals(expected.length / 2, bids.size());
+        for (int i = 0; i < bids.size(); i++) {
+            assertEquals(expected[2 * i], bids.get(i).getBidderId(), "bidder of step " + i);
+            assertEquals(0, price((String) expected[2 * i + 1]).compareTo(bids.get(i).getBidAmount()), "amount of step " + i + " was " + bids.get(i).getBidAmount());
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.university.auctionsystem.shared.protocol;
+
+import com.university.auctionsystem.shared.model.Auction;
+import com.university.auctionsystem.shared.model.Bid;
+import com.university.auctionsystem.shared.model.Item;
+import com.university.auctionsystem.shared.model.Message;
+import com.university.auctionsystem.shared.model.Page;
+import com.university.auctionsystem.shared.model.PageRequest;
+import com.university.auctionsystem.shared.model.Role;
+import com.university.auctionsystem.shared.model.SearchQuery;
+import com.university.auctionsystem.shared.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryCodecTest {
+    private static final Timestamp CREATED = new Timestamp(1_700_000_000_123L);
+
+    private final BinaryCodec binary = new BinaryCodec();
+    private final SerializationCodec serialization = new SerializationCodec();
+
+    @Test
+    void scalarsRoundTrip() throws IOException {
+        assertRoundTrip(null);
+        assertRoundTrip(42);
+        assertRoundTrip(-7);
+        assertRoundTrip(Long.MIN_VALUE);
+        assertRoundTrip("bid accepted");
+        assertRoundTrip("");
+        assertRoundTrip(Boolean.TRUE);
+        assertRoundTrip(new BigDecimal("125.50"));
+        assertRoundTrip(new BigDecimal("123456789012345678901234567890.01"));
+    }
+
+    @Test
+    void listRoundTrips() throws IOException {
+        assertRoundTrip(new ArrayList<>(Arrays.asList(1, "two", null, new BigDecimal("3.00"))));
+    }
+
+    @Test
+    void requestAndResponseRoundTrip() throws IOException {
+        Request request = new Request(RequestType.PLACE_BID, bid());
+        request.setCorrelationId("c-17");
+        assertRoundTrip(request);
+        assertRoundTrip(new Response(true, "ok", auction(), RequestType.PLACE_BID, "c-17"));
+        assertRoundTrip(new Response(false, null, null, null, null));
+    }
+
+    @Test
+    void modelTypesRoundTrip() throws IOException {
+        assertRoundTrip(auction());
+        assertRoundTrip(new Auction());
+        assertRoundTrip(bid());
+        assertRoundTrip(item());
+        assertRoundTrip(user(Role.SELLER));
+        assertRoundTrip(new User());
+        assertRoundTrip(message());
+        assertRoundTrip(searchQuery(Auction.AuctionStatus.ENDED));
+    }
+
+    @Test
+    void pagingTypesRoundTrip() throws IOException {
+        assertRoundTrip(new Page<>(new ArrayList<>(Arrays.asList(auction(), auction())), "cursor-2"));
+        assertRoundTrip(new Page<>(new ArrayList<>(), null));
+        assertRoundTrip(new PageRequest("cursor-1", 50));
+        assertRoundTrip(new PageRequest(null, 20));
+    }
+
+    @Test
+    void cachedPayloadDecodesToItsValue() throws IOException {
+        CachedPayload cached = new CachedPayload(new ArrayList<>(Arrays.asList(auction(), bid())), 3);
+
+        assertSameState(serialization.decode(serialization.encode(cached)), binary.decode(binary.encode(cached)));
+    }
+
+    @Test
+    void unknownTypesFallBackToSerialization() throws IOException {
+        assertRoundTrip(UUID.fromString("3f1c2b9e-0d4a-4c1e-9a57-2b8d6c0e4f11"));
+    }
+
+    @Test
+    void everyEnumConstantRoundTrips() throws IOException {
+        for (Role role : Role.values()) {
+            assertRoundTrip(user(role));
+        }
+        for (Auction.AuctionStatus status : Auction.AuctionStatus.values()) {
+            assertRoundTrip(searchQuery(status));
+        }
+        for (Auction.PaymentStatus status : Auction.PaymentStatus.values()) {
+            Auction auction = auction();
+            auction.setPaymentStatus(status);
+            assertRoundTrip(auction);
+        }
+    }
+
+    @Test
+    void enumWireCodesAreFixed() throws IOException {
+        SearchQuery query = new SearchQuery();
+        query.setStatus(Auction.AuctionStatus.ENDED);
+        query.setPageSize(0);
+
+        // magic, version, tag, text, category, status code 3 (zig-zag 6), prices, window, page, size
+        byte[] expected = {(byte) 0xB7, 1, 14, 1, 1, 6, 0, 0, 0, 0, 0};
+        assertArrayEquals(expected, binary.encode(query));
+
+        User user = new User();
+        user.setRole(Role.ADMIN);
+        byte[] encoded = binary.encode(user);
+        // magic, version, tag, id, username, password hash, email, then the role code 3
+        assertEquals(6, encoded[7]);
+    }
+
+    @Test
+    void rejectsUnknownEnumCode() {
+        byte[] frame = {(byte) 0xB7, 1, 14, 1, 1, 10, 0, 0, 0, 0, 0};
+        assertThrows(IOException.class, () -> binary.decode(frame));
+    }
+
+    private void assertRoundTrip(Object value) throws IOException {
+        assertSameState(serialization.decode(serialization.encode(value)), binary.decode(binary.encode(value)));
+    }
+
+    private static void assertSameState(Object expected, Object actual) {
+        if (expected == null || actual == null || expected instanceof Enum<?> || expected.getClass().getName().startsWith("java.")) {
+            if (expected instanceof List<?> expectedList && actual instanceof List<?> actualList) {
+                assertEquals(expectedList.size(), actualList.size());
+                for (int i = 0; i < expectedList.size(); i++) {
+                    assertSameState(expectedList.get(i), actualList.get(i));
+                }
+            } else {
+                assertEquals(expected, actual);
+            }
+            return;
+        }
+        assertSame(expected.getClass(), actual.getClass());
+        for (Class<?> type = expected.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    assertSameState(field.get(expected), field.get(actual));
+                } catch (IllegalAccessException e) {
+                    throw new AssertionError(e);
+                } catch (AssertionError e) {
+                    throw new AssertionError(type.getSimpleName() + "." + field.getName() + ": " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private static Auction auction() {
+        Auction auction = new Auction();
+        auction.setAuctionId(11);
+        auction.setItemId(21);
+        auction.setItem(item());
+        auction.setStartTime(CREATED);
+        auction.setEndTime(new Timestamp(CREATED.getTime() + 86_400_000L));
+        auction.setStartPrice(new BigDecimal("10.00"));
+        auction.setReservePrice(new BigDecimal("50.00"));
+        auction.setCurrentHighestBid(new BigDecimal("42.50"));
+        auction.setWinningBidderId(7);
+        auction.setStatus(Auction.AuctionStatus.ACTIVE);
+        auction.setCreatedAt(CREATED);
+        auction.setPaymentStatus(Auction.PaymentStatus.PAID);
+        return auction;
+    }
+
+    private static Bid bid() {
+        Bid bid = new Bid();
+        bid.setBidId(31);
+        bid.setAuctionId(11);
+        bid.setBidderId(7);
+        bid.setBidderUsername("alice");
+        bid.setBidAmount(new BigDecimal("42.50"));
+        bid.setBidTime(CREATED);
+        bid.setAuctionItemName("Lamp");
+        bid.setAuctionStatus("ACTIVE");
+        return bid;
+    }
+
+    private static Item item() {
+        Item item = new Item();
+        item.setItemId(21);
+        item.setSellerId(3);
+        item.setName("Lamp");
+        item.setDescription("Brass desk lamp");
+        item.setImagePath(null);
+        item.setCategory("Home");
+        item.setTags("brass,vintage");
+        item.setCreatedAt(CREATED);
+        return item;
+    }
+
+    private static User user(Role role) {
+        User user = new User();
+        user.setUserId(7);
+        user.setUsername("alice");
+        user.setPasswordHash("$2a$10$hash");
+        user.setEmail("alice@example.com");
+        user.setRole(role);
+        user.setCreatedAt(CREATED);
+        return user;
+    }
+
+    private static Message message() {
+        Message message = new Message();
+        message.setMessageId(5);
+        message.setAuctionId(11);
+        message.setSenderId(7);
+        message.setSenderUsername("alice");
+        message.setReceiverId(3);
+        message.setReceiverUsername("bob");
+        message.setMessageText("Is it still available?");
+        message.setTimestamp(CREATED);
+        message.setRead(true);
+        message.setAuctionItemName("Lamp");
+        return message;
+    }
+
+    private static SearchQuery searchQuery(Auction.AuctionStatus status) {
+        SearchQuery query = new SearchQuery("lamp");
+        query.setCategory("Home");
+        query.setStatus(status);
+        query.setMinPrice(new BigDecimal("5"));
+        query.setMaxPrice(new BigDecimal("100.00"));
+        query.setEndingWithinMillis(3_600_000L);
+        query.setPage(2);
+        query.setPageSize(25);
+        return query;
+    }
+}